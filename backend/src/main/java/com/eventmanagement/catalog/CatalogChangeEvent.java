@@ -0,0 +1,35 @@
+package com.eventmanagement.catalog;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Published by the services whenever an event row changes. Listeners react after the
+ * surrounding transaction commits so in-memory views never run ahead of the database.
+ *
+ * Membership changes carry the event as it was before and after the change; either side
+ * is null when the event did not exist (or was not active) at that point.
+ */
+@Getter
+@AllArgsConstructor
+@ToString
+public class CatalogChangeEvent {
+
+    public enum ChangeType {
+        CREATED,
+        UPDATED,
+        DELETED,
+        // Only the registered count moved; the set and order of events is unchanged
+        REGISTRATIONS
+    }
+
+    private final Long eventId;
+    private final ChangeType type;
+    private final EventSnapshot previous;
+    private final EventSnapshot current;
+
+    public CatalogChangeEvent(Long eventId, ChangeType type) {
+        this(eventId, type, null, null);
+    }
+}
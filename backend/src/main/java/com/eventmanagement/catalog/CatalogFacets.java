@@ -0,0 +1,203 @@
+package com.eventmanagement.catalog;
+
+import com.eventmanagement.dto.EventFacetsDTO;
+import com.eventmanagement.dto.FacetCountDTO;
+import com.eventmanagement.repository.EventRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Active and upcoming event counts per category and per venue, maintained incrementally
+ * from {@link CatalogChangeEvent}s instead of a GROUP BY per request.
+ *
+ * Values are compared case-insensitively, like {@code EventRepository.findByCategory}; the
+ * spelling shown is the first one seen. Events leave the upcoming counts once their date has
+ * passed, checked on every read. Until the first build succeeds the counts are empty; the build
+ * is retried on a schedule rather than on a request thread. The same schedule resyncs the counts
+ * with events written by other instances, re-reading every event whose updated_at moved.
+ */
+@Component
+@Slf4j
+public class CatalogFacets {
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    private final Map<String, Counts> categories = new ConcurrentHashMap<>();
+    private final Map<String, Counts> venues = new ConcurrentHashMap<>();
+    // The snapshot each active event was counted with, so it is uncounted the same way
+    private final Map<Long, EventSnapshot> counted = new HashMap<>();
+    // The ones still in the upcoming counts by date, so started events are found without a scan
+    private final NavigableSet<EventSnapshot> upcomingByDate = new TreeSet<>(
+            Comparator.comparing(EventSnapshot::getEventDate).thenComparing(EventSnapshot::getId));
+    private final List<CatalogChangeEvent> pendingChanges = new ArrayList<>();
+    private volatile boolean ready;
+    private LocalDateTime lastSync;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void build() {
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            List<EventSnapshot> snapshots = eventRepository.findAllActiveEvents().stream()
+                    .map(EventSnapshot::of)
+                    .collect(Collectors.toList());
+            rebuild(snapshots);
+            lastSync = now;
+            log.info("Facet counts built from {} events", snapshots.size());
+        } catch (Exception e) {
+            log.error("Could not build facet counts", e);
+        }
+    }
+
+    public synchronized void rebuild(Collection<EventSnapshot> snapshots) {
+        categories.clear();
+        venues.clear();
+        counted.clear();
+        upcomingByDate.clear();
+        for (EventSnapshot snapshot : snapshots) {
+            count(snapshot);
+        }
+        for (CatalogChangeEvent change : pendingChanges) {
+            apply(change);
+        }
+        pendingChanges.clear();
+        ready = true;
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    // Applies events written by other instances since the last resync, or retries a failed build
+    @Scheduled(fixedDelayString = "${events.catalog.resync-interval:10000}")
+    public void resync() {
+        if (!ready || lastSync == null) {
+            build();
+            return;
+        }
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            List<EventSnapshot> changed = eventRepository.findUpdatedSince(lastSync.minus(CatalogVersion.RESYNC_OVERLAP)).stream()
+                    .map(EventSnapshot::of)
+                    .collect(Collectors.toList());
+            synchronized (this) {
+                changed.forEach(snapshot -> replace(snapshot.getId(), snapshot));
+            }
+            lastSync = now;
+        } catch (RuntimeException e) {
+            log.warn("Could not resync facet counts", e);
+        }
+        expireStarted();
+    }
+
+    @Order(CatalogVersion.VIEW_ORDER)
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onCatalogChange(CatalogChangeEvent change) {
+        if (change.getType() == CatalogChangeEvent.ChangeType.REGISTRATIONS) {
+            return;
+        }
+        if (ready) {
+            apply(change);
+        } else {
+            pendingChanges.add(change);
+        }
+    }
+
+    public EventFacetsDTO getFacets() {
+        expireStarted();
+        return EventFacetsDTO.builder()
+                .categories(toDTOs(categories))
+                .venues(toDTOs(venues))
+                .build();
+    }
+
+    private synchronized void expireStarted() {
+        LocalDateTime now = LocalDateTime.now();
+        while (!upcomingByDate.isEmpty() && upcomingByDate.first().getEventDate().isBefore(now)) {
+            adjust(upcomingByDate.pollFirst(), 0, -1);
+        }
+    }
+
+    private void apply(CatalogChangeEvent change) {
+        replace(change.getEventId(), change.getCurrent());
+    }
+
+    private void replace(Long eventId, EventSnapshot current) {
+        EventSnapshot previous = counted.remove(eventId);
+        if (previous != null) {
+            adjust(previous, -1, upcomingByDate.remove(previous) ? -1 : 0);
+        }
+        if (current != null && current.isActive()) {
+            count(current);
+        }
+    }
+
+    private void count(EventSnapshot snapshot) {
+        boolean upcoming = !snapshot.getEventDate().isBefore(LocalDateTime.now());
+        counted.put(snapshot.getId(), snapshot);
+        if (upcoming) {
+            upcomingByDate.add(snapshot);
+        }
+        adjust(snapshot, 1, upcoming ? 1 : 0);
+    }
+
+    private void adjust(EventSnapshot snapshot, long activeDelta, long upcomingDelta) {
+        adjust(categories, snapshot.getCategory(), activeDelta, upcomingDelta);
+        adjust(venues, snapshot.getVenue(), activeDelta, upcomingDelta);
+    }
+
+    private static void adjust(Map<String, Counts> facet, String value, long activeDelta, long upcomingDelta) {
+        if (value == null) {
+            return;
+        }
+        facet.compute(value.toLowerCase(Locale.ROOT), (key, counts) -> {
+            Counts updated = counts != null
+                    ? new Counts(counts.label, counts.active + activeDelta, counts.upcoming + upcomingDelta)
+                    : new Counts(value, activeDelta, upcomingDelta);
+            return updated.active <= 0 && updated.upcoming <= 0 ? null : updated;
+        });
+    }
+
+    private static List<FacetCountDTO> toDTOs(Map<String, Counts> facet) {
+        return facet.values().stream()
+                .sorted(Comparator.comparingLong((Counts counts) -> counts.active).reversed()
+                        .thenComparing(counts -> counts.label, String.CASE_INSENSITIVE_ORDER))
+                .map(counts -> FacetCountDTO.builder()
+                        .value(counts.label)
+                        .activeCount(counts.active)
+                        .upcomingCount(counts.upcoming)
+                        .build())
+                .collect(Collectors.toList());
+    }
+
+    private static final class Counts {
+        private final String label;
+        private final long active;
+        private final long upcoming;
+
+        private Counts(String label, long active, long upcoming) {
+            this.label = label;
+            this.active = active;
+            this.upcoming = upcoming;
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.eventmanagement.catalog;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * Cached result of a list query: the ids on the page in order, plus the cursor of the
+ * page after it. The events themselves are cached separately.
+ */
+@Getter
+@AllArgsConstructor
+public class CatalogPage {
+    private final List<Long> eventIds;
+    private final String nextCursor;
+}
@@ -0,0 +1,98 @@
+package com.eventmanagement.catalog;
+
+import com.eventmanagement.exception.ResourceNotFoundException;
+import com.eventmanagement.repository.EventRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * Strong ETags for the event read endpoints, derived from the events table so every instance
+ * hands out the same validator for the same data and unchanged responses can be answered with
+ * 304 before any page is built.
+ *
+ * Every write to an event, including the seat count updates, moves its updated_at. A list is
+ * tagged with the latest updated_at plus the start of the next upcoming event, so lists also
+ * change when an event starts; both are index lookups. A single event is tagged with its own
+ * updated_at.
+ *
+ * Versions are memoized for a short TTL so the 304 path stays in memory, and dropped as soon as
+ * a local {@link CatalogChangeEvent} moves them. Writes from other instances show up once the
+ * TTL has passed.
+ */
+@Component
+public class CatalogVersion {
+
+    // Order of the in-memory views' CatalogChangeEvent listeners, ahead of other listeners
+    public static final int VIEW_ORDER = Ordered.LOWEST_PRECEDENCE - 100;
+
+    // The views re-read events written this long before their last resync, for clock skew between
+    // instances and transactions that commit late. Applying an event twice is harmless
+    public static final Duration RESYNC_OVERLAP = Duration.ofMinutes(1);
+
+    private static final String LIST_KEY = "list";
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    private final Cache<String, String> versions;
+
+    @Autowired
+    public CatalogVersion(@Value("${events.catalog.version-ttl:1s}") Duration ttl) {
+        this(ttl, Ticker.systemTicker());
+    }
+
+    CatalogVersion(Duration ttl, Ticker ticker) {
+        this.versions = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .ticker(ticker)
+                .build();
+    }
+
+    public String listTag(Long userId) {
+        return tag(versions.get(LIST_KEY, key -> format(eventRepository.findLastUpdatedAt()) + "."
+                + format(eventRepository.findNextEventDateAfter(LocalDateTime.now()))), userId);
+    }
+
+    /**
+     * Throws ResourceNotFoundException for an unknown event, so a conditional request for it
+     * gets 404 rather than 304.
+     */
+    public String eventTag(Long eventId, Long userId) {
+        return tag(versions.get(eventKey(eventId), key -> "e" + eventId + "." + format(eventRepository.findUpdatedAtById(eventId)
+                .orElseThrow(() -> new ResourceNotFoundException("Event not found")))), userId);
+    }
+
+    @Order(VIEW_ORDER)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogChange(CatalogChangeEvent change) {
+        versions.invalidate(LIST_KEY);
+        versions.invalidate(eventKey(change.getEventId()));
+    }
+
+    private static String eventKey(Long eventId) {
+        return "e" + eventId;
+    }
+
+    // isRegistered makes authenticated responses per-user, so they get their own validators
+    private static String tag(String version, Long userId) {
+        return "\"" + version + "-" + (userId != null ? "u" + userId : "anon") + "\"";
+    }
+
+    private static String format(LocalDateTime time) {
+        if (time == null) {
+            return "0";
+        }
+        return time.toEpochSecond(ZoneOffset.UTC) + "." + time.getNano();
+    }
+}
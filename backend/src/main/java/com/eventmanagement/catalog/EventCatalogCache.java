@@ -0,0 +1,125 @@
+package com.eventmanagement.catalog;
+
+import com.eventmanagement.dto.EventDTO;
+import com.eventmanagement.dto.EventSummaryDTO;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounded cache of event DTO and summary skeletons (everything except the per-user
+ * isRegistered flag) and of list pages, kept in step with the database by
+ * {@link CatalogChangeEvent}s.
+ *
+ * Loads race with invalidations, so callers read {@link #generation()} before querying the
+ * database and hand it back on put; results loaded before an invalidation are dropped.
+ * The TTL bounds staleness caused by writes from other application instances.
+ */
+@Component
+@Slf4j
+public class EventCatalogCache implements MeterBinder {
+
+    private final Cache<Long, EventDTO> events;
+    private final Cache<Long, EventSummaryDTO> summaries;
+    private final Cache<String, CatalogPage> pages;
+    private final AtomicLong generation = new AtomicLong();
+
+    public EventCatalogCache(@Value("${events.cache.max-events:10000}") long maxEvents,
+                             @Value("${events.cache.max-pages:2000}") long maxPages,
+                             @Value("${events.cache.ttl:5m}") Duration ttl) {
+        this.events = Caffeine.newBuilder()
+                .maximumSize(maxEvents)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        this.summaries = Caffeine.newBuilder()
+                .maximumSize(maxEvents)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        this.pages = Caffeine.newBuilder()
+                .maximumSize(maxPages)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+    }
+
+    public long generation() {
+        return generation.get();
+    }
+
+    public CatalogPage getPage(String key) {
+        return pages.getIfPresent(key);
+    }
+
+    public void putPage(String key, CatalogPage page, long loadedAt) {
+        if (generation.get() == loadedAt) {
+            pages.put(key, page);
+        }
+    }
+
+    public Map<Long, EventDTO> getEvents(Collection<Long> eventIds) {
+        return events.getAllPresent(eventIds);
+    }
+
+    public void putEvents(Collection<EventDTO> skeletons, long loadedAt) {
+        if (generation.get() != loadedAt) {
+            return;
+        }
+        for (EventDTO skeleton : skeletons) {
+            events.put(skeleton.getId(), skeleton);
+        }
+    }
+
+    public Map<Long, EventSummaryDTO> getSummaries(Collection<Long> eventIds) {
+        return summaries.getAllPresent(eventIds);
+    }
+
+    public void putSummaries(Collection<EventSummaryDTO> skeletons, long loadedAt) {
+        if (generation.get() != loadedAt) {
+            return;
+        }
+        for (EventSummaryDTO skeleton : skeletons) {
+            summaries.put(skeleton.getId(), skeleton);
+        }
+    }
+
+    @Order(CatalogVersion.VIEW_ORDER)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogChange(CatalogChangeEvent change) {
+        generation.incrementAndGet();
+        events.invalidate(change.getEventId());
+        summaries.invalidate(change.getEventId());
+        if (change.getType() != CatalogChangeEvent.ChangeType.REGISTRATIONS) {
+            // Membership or ordering of list pages may have changed
+            pages.invalidateAll();
+        }
+        log.debug("Catalog cache invalidated for {}", change);
+    }
+
+    public void invalidateAll() {
+        generation.incrementAndGet();
+        events.invalidateAll();
+        summaries.invalidateAll();
+        pages.invalidateAll();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, events, "event-catalog.events");
+        CaffeineCacheMetrics.monitor(registry, summaries, "event-catalog.summaries");
+        CaffeineCacheMetrics.monitor(registry, pages, "event-catalog.pages");
+    }
+}
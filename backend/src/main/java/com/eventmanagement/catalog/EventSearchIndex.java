@@ -0,0 +1,321 @@
+package com.eventmanagement.catalog;
+
+import com.eventmanagement.repository.EventRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Inverted index over the title, category, venue and description of active events.
+ *
+ * Every token is indexed under all of its 1- to 3-character substrings. A query term of up
+ * to three characters is answered by a single posting list; longer terms start from the
+ * rarest of their trigrams and verify those candidates against the stored tokens.
+ * Multiple terms are combined with AND. Matches in the title weigh more than matches in the
+ * category, venue or description, and whole-word matches more than prefix or infix ones.
+ *
+ * The index is built once the application is ready and then maintained from
+ * {@link CatalogChangeEvent}s; changes that arrive during the initial build are replayed
+ * on top of it. Until it is ready, {@link #isReady()} is false and callers fall back to SQL.
+ * Events written by other instances are picked up by a periodic resync that re-reads every
+ * event whose updated_at moved since the last one.
+ */
+@Component
+@Slf4j
+public class EventSearchIndex {
+
+    private static final Pattern TOKEN_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final int MAX_GRAM_LENGTH = 3;
+
+    // Indexed by field position: title, category, venue, description
+    private static final double[] FIELD_WEIGHTS = {4.0, 3.0, 2.0, 1.0};
+    private static final double EXACT_MATCH = 2.0;
+    private static final double PREFIX_MATCH = 1.5;
+    private static final double INFIX_MATCH = 1.0;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, Set<Long>> postings = new HashMap<>();
+    private final Map<Long, IndexedEvent> documents = new HashMap<>();
+    private final List<CatalogChangeEvent> pendingChanges = new ArrayList<>();
+    private volatile boolean ready;
+    private LocalDateTime lastSync;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void build() {
+        try {
+            long started = System.nanoTime();
+            LocalDateTime now = LocalDateTime.now();
+            List<EventSnapshot> snapshots = eventRepository.findAllActiveEvents().stream()
+                    .map(EventSnapshot::of)
+                    .collect(Collectors.toList());
+            rebuild(snapshots);
+            lastSync = now;
+            log.info("Search index built for {} events in {} ms", snapshots.size(), (System.nanoTime() - started) / 1_000_000);
+        } catch (Exception e) {
+            log.error("Could not build search index, searches will use the database", e);
+        }
+    }
+
+    public void rebuild(Collection<EventSnapshot> snapshots) {
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            documents.clear();
+            for (EventSnapshot snapshot : snapshots) {
+                add(snapshot);
+            }
+            for (CatalogChangeEvent change : pendingChanges) {
+                apply(change);
+            }
+            pendingChanges.clear();
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    // Applies events written by other instances since the last resync, or retries a failed build
+    @Scheduled(fixedDelayString = "${events.catalog.resync-interval:10000}")
+    public void resync() {
+        if (!ready || lastSync == null) {
+            build();
+            return;
+        }
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            List<EventSnapshot> changed = eventRepository.findUpdatedSince(lastSync.minus(CatalogVersion.RESYNC_OVERLAP)).stream()
+                    .map(EventSnapshot::of)
+                    .collect(Collectors.toList());
+            lock.writeLock().lock();
+            try {
+                changed.forEach(this::replace);
+            } finally {
+                lock.writeLock().unlock();
+            }
+            lastSync = now;
+        } catch (RuntimeException e) {
+            log.warn("Could not resync search index", e);
+        }
+    }
+
+    @Order(CatalogVersion.VIEW_ORDER)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogChange(CatalogChangeEvent change) {
+        if (change.getType() == CatalogChangeEvent.ChangeType.REGISTRATIONS) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            if (ready) {
+                apply(change);
+            } else {
+                pendingChanges.add(change);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Returns every active event matching all terms of the query, best match first.
+     */
+    public List<SearchHit> search(String query) {
+        List<String> terms = new ArrayList<>(tokenize(query));
+        if (terms.isEmpty()) {
+            return Collections.emptyList();
+        }
+        // Most selective (longest) terms first keeps the intersection small
+        terms.sort(Comparator.comparingInt(String::length).reversed());
+
+        lock.readLock().lock();
+        try {
+            Set<Long> candidates = null;
+            for (String term : terms) {
+                Set<Long> matches = candidatesFor(term);
+                if (candidates == null) {
+                    candidates = new HashSet<>(matches);
+                } else {
+                    candidates.retainAll(matches);
+                }
+                if (candidates.isEmpty()) {
+                    return Collections.emptyList();
+                }
+            }
+
+            List<SearchHit> hits = new ArrayList<>(candidates.size());
+            for (Long eventId : candidates) {
+                IndexedEvent document = documents.get(eventId);
+                double score = 0;
+                for (String term : terms) {
+                    double termScore = document.score(term);
+                    if (termScore == 0) {
+                        score = 0;
+                        break;
+                    }
+                    score += termScore;
+                }
+                if (score > 0) {
+                    hits.add(new SearchHit(eventId, score, document.eventDate));
+                }
+            }
+            hits.sort(SearchHit.RANKING);
+            return hits;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void apply(CatalogChangeEvent change) {
+        remove(change.getEventId());
+        EventSnapshot current = change.getCurrent();
+        if (current != null && current.isActive()) {
+            add(current);
+        }
+    }
+
+    private void replace(EventSnapshot snapshot) {
+        remove(snapshot.getId());
+        if (snapshot.isActive()) {
+            add(snapshot);
+        }
+    }
+
+    private Set<Long> candidatesFor(String term) {
+        if (term.length() <= MAX_GRAM_LENGTH) {
+            return postings.getOrDefault(term, Collections.emptySet());
+        }
+        Set<Long> smallest = null;
+        for (int i = 0; i + MAX_GRAM_LENGTH <= term.length(); i++) {
+            Set<Long> posting = postings.getOrDefault(term.substring(i, i + MAX_GRAM_LENGTH), Collections.emptySet());
+            if (smallest == null || posting.size() < smallest.size()) {
+                smallest = posting;
+            }
+        }
+        // Candidates are verified against the tokens when scoring
+        return smallest;
+    }
+
+    private void add(EventSnapshot snapshot) {
+        String[] fields = {snapshot.getTitle(), snapshot.getCategory(), snapshot.getVenue(), snapshot.getDescription()};
+        String[][] fieldTokens = new String[fields.length][];
+        Set<String> grams = new HashSet<>();
+        for (int f = 0; f < fields.length; f++) {
+            Set<String> tokens = tokenize(fields[f]);
+            fieldTokens[f] = tokens.toArray(new String[0]);
+            for (String token : tokens) {
+                addGrams(token, grams);
+            }
+        }
+
+        IndexedEvent document = new IndexedEvent(snapshot.getEventDate(), fieldTokens, grams);
+        documents.put(snapshot.getId(), document);
+        for (String gram : grams) {
+            postings.computeIfAbsent(gram, g -> new HashSet<>()).add(snapshot.getId());
+        }
+    }
+
+    private void remove(Long eventId) {
+        IndexedEvent document = documents.remove(eventId);
+        if (document == null) {
+            return;
+        }
+        for (String gram : document.grams) {
+            Set<Long> posting = postings.get(gram);
+            if (posting != null) {
+                posting.remove(eventId);
+                if (posting.isEmpty()) {
+                    postings.remove(gram);
+                }
+            }
+        }
+    }
+
+    private static void addGrams(String token, Set<String> grams) {
+        for (int length = 1; length <= MAX_GRAM_LENGTH; length++) {
+            for (int i = 0; i + length <= token.length(); i++) {
+                grams.add(token.substring(i, i + length));
+            }
+        }
+    }
+
+    static Set<String> tokenize(String text) {
+        Set<String> tokens = new LinkedHashSet<>();
+        if (text == null) {
+            return tokens;
+        }
+        for (String token : TOKEN_SEPARATOR.split(text.toLowerCase(Locale.ROOT))) {
+            if (!token.isEmpty()) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+
+    private static final class IndexedEvent {
+        private final LocalDateTime eventDate;
+        private final String[][] fieldTokens;
+        private final Set<String> grams;
+
+        private IndexedEvent(LocalDateTime eventDate, String[][] fieldTokens, Set<String> grams) {
+            this.eventDate = eventDate;
+            this.fieldTokens = fieldTokens;
+            this.grams = grams;
+        }
+
+        private double score(String term) {
+            double score = 0;
+            for (int f = 0; f < fieldTokens.length; f++) {
+                double best = 0;
+                for (String token : fieldTokens[f]) {
+                    if (token.equals(term)) {
+                        best = EXACT_MATCH;
+                        break;
+                    } else if (token.startsWith(term)) {
+                        best = Math.max(best, PREFIX_MATCH);
+                    } else if (best < INFIX_MATCH && token.contains(term)) {
+                        best = INFIX_MATCH;
+                    }
+                }
+                score += best * FIELD_WEIGHTS[f];
+            }
+            return score;
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.eventmanagement.catalog;
+
+import com.eventmanagement.entity.Event;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+
+/**
+ * Immutable copy of the searchable and orderable columns of an event, taken inside the
+ * transaction that changed it so listeners never have to touch the entity afterwards.
+ */
+@Getter
+@AllArgsConstructor
+@ToString(exclude = "description")
+public class EventSnapshot {
+    private final Long id;
+    private final String title;
+    private final String description;
+    private final String venue;
+    private final String category;
+    private final LocalDateTime eventDate;
+    private final boolean active;
+
+    public static EventSnapshot of(Event event) {
+        return new EventSnapshot(event.getId(), event.getTitle(), event.getDescription(), event.getVenue(),
+                event.getCategory(), event.getEventDate(), Boolean.TRUE.equals(event.getIsActive()));
+    }
+}
@@ -0,0 +1,56 @@
+package com.eventmanagement.catalog;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * Immutable sorted set of event ids backed by a primitive array. Updates return a new
+ * instance, so readers never need a lock.
+ */
+public final class RegisteredEventIds {
+
+    public static final RegisteredEventIds EMPTY = new RegisteredEventIds(new long[0]);
+
+    private final long[] ids;
+
+    private RegisteredEventIds(long[] ids) {
+        this.ids = ids;
+    }
+
+    public static RegisteredEventIds of(Collection<Long> eventIds) {
+        long[] ids = eventIds.stream().mapToLong(Long::longValue).sorted().distinct().toArray();
+        return ids.length == 0 ? EMPTY : new RegisteredEventIds(ids);
+    }
+
+    public boolean contains(long eventId) {
+        return Arrays.binarySearch(ids, eventId) >= 0;
+    }
+
+    public RegisteredEventIds with(long eventId) {
+        int index = Arrays.binarySearch(ids, eventId);
+        if (index >= 0) {
+            return this;
+        }
+        int insertAt = -index - 1;
+        long[] grown = new long[ids.length + 1];
+        System.arraycopy(ids, 0, grown, 0, insertAt);
+        grown[insertAt] = eventId;
+        System.arraycopy(ids, insertAt, grown, insertAt + 1, ids.length - insertAt);
+        return new RegisteredEventIds(grown);
+    }
+
+    public RegisteredEventIds without(long eventId) {
+        int index = Arrays.binarySearch(ids, eventId);
+        if (index < 0) {
+            return this;
+        }
+        long[] shrunk = new long[ids.length - 1];
+        System.arraycopy(ids, 0, shrunk, 0, index);
+        System.arraycopy(ids, index + 1, shrunk, index, ids.length - index - 1);
+        return new RegisteredEventIds(shrunk);
+    }
+
+    public int size() {
+        return ids.length;
+    }
+}
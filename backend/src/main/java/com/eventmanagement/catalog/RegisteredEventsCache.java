@@ -0,0 +1,66 @@
+package com.eventmanagement.catalog;
+
+import com.eventmanagement.repository.EventRegistrationRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+
+/**
+ * Per-user set of registered event ids, loaded with one query on first access and then
+ * patched in place from {@link RegistrationChangeEvent}s. Idle users are evicted.
+ *
+ * A patch that arrives while the user's set is being loaded waits for the load and is
+ * applied on top of it, so a registration committed mid-load is never lost.
+ */
+@Component
+@Slf4j
+public class RegisteredEventsCache implements MeterBinder {
+
+    private final EventRegistrationRepository registrationRepository;
+    private final Cache<Long, RegisteredEventIds> registeredByUser;
+
+    public RegisteredEventsCache(EventRegistrationRepository registrationRepository,
+                                 @Value("${events.registrations-cache.max-users:50000}") long maxUsers,
+                                 @Value("${events.registrations-cache.idle-timeout:30m}") Duration idleTimeout) {
+        this.registrationRepository = registrationRepository;
+        this.registeredByUser = Caffeine.newBuilder()
+                .maximumSize(maxUsers)
+                .expireAfterAccess(idleTimeout)
+                .recordStats()
+                .build();
+    }
+
+    public RegisteredEventIds get(Long userId) {
+        if (userId == null) {
+            return RegisteredEventIds.EMPTY;
+        }
+        return registeredByUser.get(userId,
+                id -> RegisteredEventIds.of(registrationRepository.findActiveRegisteredEventIds(id)));
+    }
+
+    @Order(CatalogVersion.VIEW_ORDER)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRegistrationChange(RegistrationChangeEvent change) {
+        registeredByUser.asMap().computeIfPresent(change.getUserId(), (userId, ids) ->
+                change.isRegistered() ? ids.with(change.getEventId()) : ids.without(change.getEventId()));
+        log.debug("Registered events cache updated for {}", change);
+    }
+
+    public void invalidate(Long userId) {
+        registeredByUser.invalidate(userId);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, registeredByUser, "registered-events");
+    }
+}
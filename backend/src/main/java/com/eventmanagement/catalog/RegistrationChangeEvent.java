@@ -0,0 +1,17 @@
+package com.eventmanagement.catalog;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Published when a user gains or loses a registration for an event.
+ */
+@Getter
+@AllArgsConstructor
+@ToString
+public class RegistrationChangeEvent {
+    private final Long userId;
+    private final Long eventId;
+    private final boolean registered;
+}
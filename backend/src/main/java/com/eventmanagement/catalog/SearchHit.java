@@ -0,0 +1,24 @@
+package com.eventmanagement.catalog;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+
+@Getter
+@AllArgsConstructor
+@ToString
+public class SearchHit {
+
+    // Best match first; ties fall back to the (eventDate, id) order of the other list endpoints
+    public static final Comparator<SearchHit> RANKING = Comparator
+            .comparingDouble(SearchHit::getScore).reversed()
+            .thenComparing(SearchHit::getEventDate)
+            .thenComparing(SearchHit::getEventId);
+
+    private final Long eventId;
+    private final double score;
+    private final LocalDateTime eventDate;
+}
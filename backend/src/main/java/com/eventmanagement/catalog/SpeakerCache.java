@@ -0,0 +1,98 @@
+package com.eventmanagement.catalog;
+
+import com.eventmanagement.dto.SpeakerDTO;
+import com.eventmanagement.entity.Speaker;
+import com.eventmanagement.repository.SpeakerRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Long-lived cache of speakers by id, plus the name-ordered list of all speaker ids.
+ * Speakers have no write API and almost never change, so entries simply expire after
+ * the TTL; {@link #invalidateAll()} is there for out-of-band edits.
+ */
+@Component
+@Slf4j
+public class SpeakerCache implements MeterBinder {
+
+    private static final String ALL = "all";
+
+    private final SpeakerRepository speakerRepository;
+    private final Cache<Long, SpeakerDTO> speakers;
+    private final Cache<String, List<Long>> speakerIds;
+
+    public SpeakerCache(SpeakerRepository speakerRepository,
+                        @Value("${events.speakers-cache.max-speakers:10000}") long maxSpeakers,
+                        @Value("${events.speakers-cache.ttl:6h}") Duration ttl) {
+        this.speakerRepository = speakerRepository;
+        this.speakers = Caffeine.newBuilder()
+                .maximumSize(maxSpeakers)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        this.speakerIds = Caffeine.newBuilder()
+                .maximumSize(1)
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    // Misses are loaded together in one query; ids that do not exist are left out
+    public Map<Long, SpeakerDTO> getAll(Collection<Long> ids) {
+        return speakers.getAll(ids, missing -> speakerRepository.findAllById(new ArrayList<Long>(missing)).stream()
+                .map(SpeakerCache::toDTO)
+                .collect(Collectors.toMap(SpeakerDTO::getId, Function.identity())));
+    }
+
+    public SpeakerDTO get(Long id) {
+        return getAll(List.of(id)).get(id);
+    }
+
+    public List<SpeakerDTO> getAllSpeakers() {
+        List<Long> ids = speakerIds.get(ALL, key -> speakerRepository.findAllIdsOrderByName());
+        Map<Long, SpeakerDTO> byId = getAll(ids);
+
+        List<SpeakerDTO> result = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            SpeakerDTO speaker = byId.get(id);
+            if (speaker != null) {
+                result.add(speaker);
+            }
+        }
+        return result;
+    }
+
+    public void invalidateAll() {
+        speakers.invalidateAll();
+        speakerIds.invalidateAll();
+        log.info("Speaker cache cleared");
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, speakers, "speakers");
+    }
+
+    private static SpeakerDTO toDTO(Speaker speaker) {
+        return SpeakerDTO.builder()
+                .id(speaker.getId())
+                .name(speaker.getName())
+                .bio(speaker.getBio())
+                .expertise(speaker.getExpertise())
+                .email(speaker.getEmail())
+                .build();
+    }
+}
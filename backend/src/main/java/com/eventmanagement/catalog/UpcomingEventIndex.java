@@ -0,0 +1,202 @@
+package com.eventmanagement.catalog;
+
+import com.eventmanagement.repository.EventRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.stream.Collectors;
+
+/**
+ * Active events that have not started yet, ordered by (eventDate, id) in a concurrent
+ * skip list so upcoming pages and date ranges are range reads.
+ *
+ * Reads never return events in the past; the scheduled purge only reclaims their memory.
+ * Writes go
+ * through {@link CatalogChangeEvent}s, and changes seen during the initial build are
+ * replayed once it completes. Events written by other instances are picked up by a periodic
+ * resync that re-reads every event whose updated_at moved since the last one.
+ */
+@Component
+@Slf4j
+public class UpcomingEventIndex {
+
+    private static final Comparator<Key> ORDER = Comparator
+            .comparing((Key key) -> key.eventDate)
+            .thenComparingLong(key -> key.eventId);
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    private final ConcurrentSkipListMap<Key, EventSnapshot> byDate = new ConcurrentSkipListMap<>(ORDER);
+    private final Map<Long, Key> keysById = new ConcurrentHashMap<>();
+    private final List<CatalogChangeEvent> pendingChanges = new ArrayList<>();
+    private final Object writeLock = new Object();
+    private volatile boolean ready;
+    private LocalDateTime lastSync;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void build() {
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            List<EventSnapshot> snapshots = eventRepository.findUpcomingEvents(now).stream()
+                    .map(EventSnapshot::of)
+                    .collect(Collectors.toList());
+            rebuild(snapshots);
+            lastSync = now;
+            log.info("Upcoming event index built with {} events", snapshots.size());
+        } catch (Exception e) {
+            log.error("Could not build upcoming event index, upcoming events will use the database", e);
+        }
+    }
+
+    public void rebuild(Collection<EventSnapshot> snapshots) {
+        synchronized (writeLock) {
+            byDate.clear();
+            keysById.clear();
+            for (EventSnapshot snapshot : snapshots) {
+                add(snapshot);
+            }
+            for (CatalogChangeEvent change : pendingChanges) {
+                apply(change);
+            }
+            pendingChanges.clear();
+            ready = true;
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    // Applies events written by other instances since the last resync, or retries a failed build
+    @Scheduled(fixedDelayString = "${events.catalog.resync-interval:10000}")
+    public void resync() {
+        if (!ready || lastSync == null) {
+            build();
+            return;
+        }
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            List<EventSnapshot> changed = eventRepository.findUpdatedSince(lastSync.minus(CatalogVersion.RESYNC_OVERLAP)).stream()
+                    .map(EventSnapshot::of)
+                    .collect(Collectors.toList());
+            synchronized (writeLock) {
+                changed.forEach(snapshot -> replace(snapshot.getId(), snapshot));
+            }
+            lastSync = now;
+        } catch (RuntimeException e) {
+            log.warn("Could not resync upcoming event index", e);
+        }
+    }
+
+    @Order(CatalogVersion.VIEW_ORDER)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogChange(CatalogChangeEvent change) {
+        if (change.getType() == CatalogChangeEvent.ChangeType.REGISTRATIONS) {
+            return;
+        }
+        synchronized (writeLock) {
+            if (ready) {
+                apply(change);
+            } else {
+                pendingChanges.add(change);
+            }
+        }
+    }
+
+    /**
+     * Up to {@code limit} upcoming events strictly after the (afterDate, afterId) position
+     * and no later than {@code until} (unbounded when null).
+     */
+    public List<EventSnapshot> nextAfter(LocalDateTime afterDate, long afterId, LocalDateTime until, int limit) {
+        Key from = max(new Key(afterDate, afterId), new Key(LocalDateTime.now(), Long.MIN_VALUE));
+        List<EventSnapshot> events = new ArrayList<>(limit);
+        for (Map.Entry<Key, EventSnapshot> entry : byDate.tailMap(from, false).entrySet()) {
+            if (events.size() == limit || (until != null && entry.getKey().eventDate.isAfter(until))) {
+                break;
+            }
+            events.add(entry.getValue());
+        }
+        return events;
+    }
+
+    /**
+     * All upcoming events starting in [from, to].
+     */
+    public List<EventSnapshot> between(LocalDateTime from, LocalDateTime to) {
+        LocalDateTime start = from.isAfter(LocalDateTime.now()) ? from : LocalDateTime.now();
+        if (start.isAfter(to)) {
+            return new ArrayList<>();
+        }
+        return new ArrayList<>(byDate.subMap(new Key(start, Long.MIN_VALUE), true, new Key(to, Long.MAX_VALUE), true).values());
+    }
+
+    public int size() {
+        return byDate.size();
+    }
+
+    @Scheduled(fixedDelayString = "${events.upcoming-index.purge-interval:60000}")
+    public void purgeExpired() {
+        LocalDateTime now = LocalDateTime.now();
+        int purged = 0;
+        synchronized (writeLock) {
+            Map.Entry<Key, EventSnapshot> first;
+            while ((first = byDate.firstEntry()) != null && first.getKey().eventDate.isBefore(now)) {
+                byDate.remove(first.getKey());
+                keysById.remove(first.getKey().eventId);
+                purged++;
+            }
+        }
+        if (purged > 0) {
+            log.debug("Purged {} started events from the upcoming index", purged);
+        }
+    }
+
+    private void apply(CatalogChangeEvent change) {
+        replace(change.getEventId(), change.getCurrent());
+    }
+
+    private void replace(Long eventId, EventSnapshot current) {
+        Key previous = keysById.remove(eventId);
+        if (previous != null) {
+            byDate.remove(previous);
+        }
+        if (current != null && current.isActive() && !current.getEventDate().isBefore(LocalDateTime.now())) {
+            add(current);
+        }
+    }
+
+    private void add(EventSnapshot snapshot) {
+        Key key = new Key(snapshot.getEventDate(), snapshot.getId());
+        keysById.put(snapshot.getId(), key);
+        byDate.put(key, snapshot);
+    }
+
+    private static Key max(Key a, Key b) {
+        return ORDER.compare(a, b) >= 0 ? a : b;
+    }
+
+    private static final class Key {
+        private final LocalDateTime eventDate;
+        private final long eventId;
+
+        private Key(LocalDateTime eventDate, long eventId) {
+            this.eventDate = eventDate;
+            this.eventId = eventId;
+        }
+    }
+}
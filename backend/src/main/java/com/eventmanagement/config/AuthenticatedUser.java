@@ -0,0 +1,48 @@
+package com.eventmanagement.config;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.security.Principal;
+import java.time.Instant;
+
+/**
+ * Principal that JwtAuthenticationFilter puts in the SecurityContext, built from the claims of
+ * the verified token so nothing downstream has to parse it again. Its name is the email, which
+ * is what {@link Authentication#getName()} returned before.
+ */
+@Data
+@AllArgsConstructor
+public class AuthenticatedUser implements Principal {
+    private Long userId;
+    private String email;
+    private String role;
+    // The token's exp claim
+    private Instant expiresAt;
+    // The token's jti and iat claims, checked against TokenRevocationList
+    private String tokenId;
+    private Instant issuedAt;
+
+    @Override
+    public String getName() {
+        return email;
+    }
+
+    /**
+     * The user of the current request, or null when it carries no valid token.
+     */
+    public static AuthenticatedUser current() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof AuthenticatedUser user) {
+            return user;
+        }
+        return null;
+    }
+
+    public static Long currentUserId() {
+        AuthenticatedUser user = current();
+        return user != null ? user.getUserId() : null;
+    }
+}
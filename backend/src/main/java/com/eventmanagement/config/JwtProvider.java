@@ -1,15 +1,19 @@
 package com.eventmanagement.config;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
+import java.time.Clock;
 import java.util.Date;
+import java.util.UUID;
 
 @Component
 @Slf4j
@@ -21,60 +25,59 @@ public class JwtProvider {
     @Value("${jwt.expiration}")
     private long jwtExpirationMs;
 
-    public String generateToken(String email, Long userId, String role) {
-        SecretKey key = Keys.hmacShaKeyFor(jwtSecret.getBytes());
+    // Source of iat, exp and the expiry check; tests swap it before init()
+    private Clock clock = Clock.systemUTC();
 
-        return Jwts.builder()
-                .subject(email)
-                .claim("userId", userId)
-                .claim("role", role)
-                .issuedAt(new Date())
-                .expiration(new Date(System.currentTimeMillis() + jwtExpirationMs))
-                .signWith(key, SignatureAlgorithm.HS512)
-                .compact();
-    }
+    // Both are immutable and thread-safe, so they are built once instead of per call
+    private SecretKey key;
+    private JwtParser parser;
 
-    public String getEmailFromToken(String token) {
-        SecretKey key = Keys.hmacShaKeyFor(jwtSecret.getBytes());
-        Claims claims = Jwts.parser()
+    @PostConstruct
+    void init() {
+        key = Keys.hmacShaKeyFor(jwtSecret.getBytes());
+        parser = Jwts.parser()
                 .verifyWith(key)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
-        return claims.getSubject();
+                .clock(() -> Date.from(clock.instant()))
+                .build();
     }
 
-    public Long getUserIdFromToken(String token) {
-        SecretKey key = Keys.hmacShaKeyFor(jwtSecret.getBytes());
-        Claims claims = Jwts.parser()
-                .verifyWith(key)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
-        return claims.get("userId", Long.class);
+    Clock getClock() {
+        return clock;
     }
 
-    public String getRoleFromToken(String token) {
-        SecretKey key = Keys.hmacShaKeyFor(jwtSecret.getBytes());
-        Claims claims = Jwts.parser()
-                .verifyWith(key)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
-        return claims.get("role", String.class);
+    void setClock(Clock clock) {
+        this.clock = clock;
     }
 
-    public boolean validateToken(String token) {
+    public String generateToken(String email, Long userId, String role) {
+        return Jwts.builder()
+                .subject(email)
+                .claim("userId", userId)
+                .claim("role", role)
+                .id(UUID.randomUUID().toString())
+                .issuedAt(Date.from(clock.instant()))
+                .expiration(new Date(clock.millis() + jwtExpirationMs))
+                .signWith(key, SignatureAlgorithm.HS512)
+                .compact();
+    }
+
+    /**
+     * Verifies the token and reads its claims in a single parse. Returns null when the token is
+     * malformed, expired or not signed with our key.
+     */
+    public AuthenticatedUser authenticate(String token) {
         try {
-            SecretKey key = Keys.hmacShaKeyFor(jwtSecret.getBytes());
-            Jwts.parser()
-                    .verifyWith(key)
-                    .build()
-                    .parseSignedClaims(token);
-            return true;
+            Claims claims = parseClaims(token);
+            return new AuthenticatedUser(claims.get("userId", Long.class), claims.getSubject(), claims.get("role", String.class),
+                    claims.getExpiration().toInstant(), claims.getId(),
+                    claims.getIssuedAt() != null ? claims.getIssuedAt().toInstant() : null);
         } catch (Exception e) {
             log.error("Invalid JWT token: {}", e.getMessage());
-            return false;
+            return null;
         }
     }
+
+    private Claims parseClaims(String token) {
+        return parser.parseSignedClaims(token).getPayload();
+    }
 }
@@ -0,0 +1,207 @@
+package com.eventmanagement.config;
+
+import com.eventmanagement.entity.RevokedToken;
+import com.eventmanagement.repository.RevokedTokenRepository;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Revoked tokens, persisted in revoked_tokens and held in memory as a Bloom filter in front of
+ * the exact entries. A token that was never revoked, which is nearly every request, is cleared
+ * by the filter alone; only filter hits look at the exact set.
+ *
+ * Logout revokes a single token by its jti. Deactivation revokes every token of the user issued
+ * up to that moment, which also covers tokens issued before they carried a jti. A JWT iat only
+ * has whole seconds, so the cutoff is truncated to the second and a token issued in the same
+ * second as the revocation counts as revoked. Other instances
+ * pick up new rows on the next refresh, so a revocation takes up to the refresh interval to
+ * reach them. Rows are purged once the tokens they cover have expired anyway.
+ */
+@Component
+@Slf4j
+public class TokenRevocationList implements MeterBinder {
+
+    private static final String TOKEN_KEY = "jti:";
+    private static final String USER_KEY = "user:";
+    // Rows revoked this long before the last refresh are read again, for clock skew between
+    // instances and transactions that commit late. Applying a row twice is harmless
+    private static final Duration REFRESH_OVERLAP = Duration.ofMinutes(1);
+
+    private final RevokedTokenRepository revokedTokenRepository;
+    private final int expectedEntries;
+    private final double falsePositiveRate;
+    private final Duration tokenLifetime;
+
+    private final Object lock = new Object();
+    private final AtomicLong falsePositives = new AtomicLong();
+    private volatile State state;
+    private LocalDateTime lastRefresh;
+
+    public TokenRevocationList(RevokedTokenRepository revokedTokenRepository,
+                               @Value("${jwt.revocation.expected-entries:100000}") int expectedEntries,
+                               @Value("${jwt.revocation.false-positive-rate:0.01}") double falsePositiveRate,
+                               @Value("${jwt.expiration}") long jwtExpirationMs) {
+        this.revokedTokenRepository = revokedTokenRepository;
+        this.expectedEntries = expectedEntries;
+        this.falsePositiveRate = falsePositiveRate;
+        this.tokenLifetime = Duration.ofMillis(jwtExpirationMs);
+    }
+
+    @PostConstruct
+    void load() {
+        synchronized (lock) {
+            LocalDateTime now = LocalDateTime.now();
+            List<RevokedToken> rows = revokedTokenRepository.findByExpiresAtAfter(now);
+            State loaded = new State(new BloomFilter(Math.max(expectedEntries, rows.size() * 2), falsePositiveRate));
+            rows.forEach(loaded::add);
+            state = loaded;
+            lastRefresh = now;
+            log.info("Loaded {} token revocations", rows.size());
+        }
+    }
+
+    /**
+     * Revokes a single token, e.g. on logout. A token without a jti can only be revoked along
+     * with every other token of its user.
+     */
+    public void revokeToken(AuthenticatedUser user) {
+        if (user.getTokenId() == null) {
+            revokeUser(user.getUserId());
+            return;
+        }
+        record(RevokedToken.builder()
+                .tokenId(user.getTokenId())
+                .userId(user.getUserId())
+                .revokedAt(LocalDateTime.now())
+                .expiresAt(LocalDateTime.ofInstant(user.getExpiresAt(), ZoneId.systemDefault()))
+                .build());
+    }
+
+    /**
+     * Revokes every token of the user issued up to now, e.g. on deactivation.
+     */
+    public void revokeUser(Long userId) {
+        LocalDateTime now = LocalDateTime.now();
+        record(RevokedToken.builder()
+                .userId(userId)
+                .revokedAt(now)
+                .expiresAt(now.plus(tokenLifetime))
+                .build());
+    }
+
+    public boolean isRevoked(AuthenticatedUser user) {
+        State current = state;
+        String tokenId = user.getTokenId();
+        if (tokenId != null && current.bloom.mightContain(TOKEN_KEY + tokenId)) {
+            if (current.tokenIds.contains(tokenId)) {
+                return true;
+            }
+            falsePositives.incrementAndGet();
+        }
+        if (current.bloom.mightContain(USER_KEY + user.getUserId())) {
+            Instant cutoff = current.userCutoffs.get(user.getUserId());
+            if (cutoff == null) {
+                falsePositives.incrementAndGet();
+            } else if (user.getIssuedAt() == null
+                    || !user.getIssuedAt().truncatedTo(ChronoUnit.SECONDS).isAfter(cutoff)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // Applies rows written by other instances since the last refresh
+    @Scheduled(fixedDelayString = "${jwt.revocation.refresh-interval:5000}")
+    public void refresh() {
+        try {
+            synchronized (lock) {
+                LocalDateTime now = LocalDateTime.now();
+                List<RevokedToken> rows = revokedTokenRepository.findByRevokedAtGreaterThanEqualAndExpiresAtAfter(
+                        lastRefresh.minus(REFRESH_OVERLAP), now);
+                rows.forEach(state::add);
+                lastRefresh = now;
+            }
+        } catch (RuntimeException e) {
+            log.warn("Could not refresh token revocations", e);
+        }
+    }
+
+    // A Bloom filter cannot drop keys, so expired rows are deleted and the state rebuilt from the rest
+    @Scheduled(fixedDelayString = "${jwt.revocation.purge-interval:3600000}")
+    public void purgeExpired() {
+        try {
+            int purged = revokedTokenRepository.deleteExpired(LocalDateTime.now());
+            load();
+            log.debug("Purged {} expired token revocations", purged);
+        } catch (RuntimeException e) {
+            log.warn("Could not purge token revocations", e);
+        }
+    }
+
+    public int size() {
+        return state.size();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("auth.revoked-tokens.entries", this, TokenRevocationList::size)
+                .description("Token revocations held in memory")
+                .register(registry);
+        FunctionCounter.builder("auth.revoked-tokens.false-positives", falsePositives, AtomicLong::get)
+                .description("Bloom filter hits for tokens that were not revoked")
+                .register(registry);
+    }
+
+    private void record(RevokedToken row) {
+        revokedTokenRepository.save(row);
+        synchronized (lock) {
+            state.add(row);
+        }
+        log.info("Revoked {} of user {}", row.getTokenId() != null ? "token " + row.getTokenId() : "all tokens", row.getUserId());
+    }
+
+    private static final class State {
+        private final BloomFilter bloom;
+        private final Set<String> tokenIds = ConcurrentHashMap.newKeySet();
+        private final Map<Long, Instant> userCutoffs = new ConcurrentHashMap<>();
+
+        private State(BloomFilter bloom) {
+            this.bloom = bloom;
+        }
+
+        // The exact entry goes in before the filter bit, so a filter hit always finds it
+        private void add(RevokedToken row) {
+            if (row.getTokenId() != null) {
+                tokenIds.add(row.getTokenId());
+                bloom.add(TOKEN_KEY + row.getTokenId());
+            } else {
+                Instant cutoff = row.getRevokedAt().atZone(ZoneId.systemDefault()).toInstant()
+                        .truncatedTo(ChronoUnit.SECONDS);
+                userCutoffs.merge(row.getUserId(), cutoff, (a, b) -> a.isAfter(b) ? a : b);
+                bloom.add(USER_KEY + row.getUserId());
+            }
+        }
+
+        private int size() {
+            return tokenIds.size() + userCutoffs.size();
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.eventmanagement.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.Objects;
+
+/**
+ * Principals of recently verified tokens, keyed by the SHA-256 of the token so the bearer
+ * strings themselves are not kept on the heap. A repeat request with the same token skips the
+ * signature check and claims parsing; each entry expires exactly at its token's exp.
+ *
+ * Only valid tokens are cached, so garbage tokens cannot push real ones out.
+ */
+@Component
+@Slf4j
+public class VerifiedTokenCache implements MeterBinder {
+
+    private final JwtProvider jwtProvider;
+    private final Cache<String, AuthenticatedUser> principals;
+
+    @Autowired
+    public VerifiedTokenCache(JwtProvider jwtProvider,
+                              @Value("${jwt.cache.max-size:10000}") long maxSize) {
+        this(jwtProvider, maxSize, Ticker.systemTicker());
+    }
+
+    // The ticker times the entries; their lifetimes come from the JwtProvider's clock
+    VerifiedTokenCache(JwtProvider jwtProvider, long maxSize, Ticker ticker) {
+        this.jwtProvider = jwtProvider;
+        this.principals = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .ticker(ticker)
+                .expireAfter(new Expiry<String, AuthenticatedUser>() {
+                    @Override
+                    public long expireAfterCreate(String digest, AuthenticatedUser user, long currentTime) {
+                        Instant now = jwtProvider.getClock().instant();
+                        return Math.max(0, Duration.between(now, user.getExpiresAt()).toNanos());
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String digest, AuthenticatedUser user, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+
+                    @Override
+                    public long expireAfterRead(String digest, AuthenticatedUser user, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * The principal of a valid token, or null when the token does not verify.
+     */
+    public AuthenticatedUser authenticate(String token) {
+        String digest = digest(token);
+        AuthenticatedUser cached = principals.getIfPresent(digest);
+        if (cached != null) {
+            return cached;
+        }
+        AuthenticatedUser user = jwtProvider.authenticate(token);
+        if (user != null) {
+            principals.put(digest, user);
+        }
+        return user;
+    }
+
+    // Drops the cached token of the principal, e.g. on logout. Entries are keyed by digest, so the
+    // token is found by its jti; a token without one can only go with the rest of its user's
+    public void invalidate(AuthenticatedUser user) {
+        if (user.getTokenId() == null) {
+            invalidateUser(user.getUserId());
+            return;
+        }
+        principals.asMap().values().removeIf(cached -> user.getTokenId().equals(cached.getTokenId()));
+    }
+
+    // Drops every cached token of the user, e.g. on deactivation
+    public void invalidateUser(Long userId) {
+        principals.asMap().values().removeIf(user -> Objects.equals(user.getUserId(), userId));
+        log.debug("Verified tokens of user {} invalidated", userId);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, principals, "verified-tokens");
+    }
+
+    private static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -1,8 +1,10 @@
 package com.eventmanagement.controller;
 
+import com.eventmanagement.config.AuthenticatedUser;
 import com.eventmanagement.dto.*;
 import com.eventmanagement.service.AuthService;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -61,4 +63,37 @@ public class AuthController {
                 .data(response)
                 .build());
     }
+
+    @PostMapping("/logout")
+    @Operation(summary = "User logout", description = "Revoke the JWT token sent with the request")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Logout successful"),
+        @ApiResponse(responseCode = "400", description = "No valid token sent")
+    })
+    public ResponseEntity<com.eventmanagement.dto.ApiResponse<Object>> logout() {
+        AuthenticatedUser user = AuthenticatedUser.current();
+        log.info("Logout request for user: {}", user != null ? user.getUserId() : null);
+        authService.logout(user);
+        return ResponseEntity.ok(com.eventmanagement.dto.ApiResponse.<Object>builder()
+                .success(true)
+                .message("Logout successful")
+                .build());
+    }
+
+    @PostMapping("/users/{userId}/deactivate")
+    @Operation(summary = "Deactivate user", description = "Deactivate a user account and revoke all of its tokens (self or admin only)")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "User deactivated"),
+        @ApiResponse(responseCode = "400", description = "Not permitted or already deactivated"),
+        @ApiResponse(responseCode = "404", description = "User not found")
+    })
+    public ResponseEntity<com.eventmanagement.dto.ApiResponse<Object>> deactivateUser(
+            @Parameter(description = "User ID") @PathVariable Long userId) {
+        log.info("Deactivating user: {}", userId);
+        authService.deactivateUser(userId, AuthenticatedUser.currentUserId());
+        return ResponseEntity.ok(com.eventmanagement.dto.ApiResponse.<Object>builder()
+                .success(true)
+                .message("User deactivated successfully")
+                .build());
+    }
 }
@@ -1,9 +1,13 @@
 package com.eventmanagement.controller;
 
-import com.eventmanagement.config.JwtProvider;
+import com.eventmanagement.catalog.CatalogVersion;
+import com.eventmanagement.config.AuthenticatedUser;
 import com.eventmanagement.dto.ApiResponse;
 import com.eventmanagement.dto.CreateEventRequest;
+import com.eventmanagement.dto.CursorPage;
 import com.eventmanagement.dto.EventDTO;
+import com.eventmanagement.dto.EventFacetsDTO;
+import com.eventmanagement.exception.BadRequestException;
 import com.eventmanagement.service.EventService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -14,15 +18,15 @@ import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
-import org.springframework.web.context.request.RequestContextHolder;
-import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import jakarta.servlet.http.HttpServletRequest;
 import java.util.List;
 
 @RestController
@@ -36,20 +40,32 @@ public class EventController {
     private EventService eventService;
 
     @Autowired
-    private JwtProvider jwtProvider;
+    private CatalogVersion catalogVersion;
 
     @GetMapping
-    @Operation(summary = "Get all events", description = "Retrieve all active events with pagination and filtering")
+    @Operation(summary = "Get all events", description = "Retrieve active events ordered by date, one cursor page at a time")
     @SecurityRequirement(name = "Bearer Authentication")
     @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Events retrieved successfully")
-    public ResponseEntity<com.eventmanagement.dto.ApiResponse<List<EventDTO>>> getAllEvents() {
+    public ResponseEntity<com.eventmanagement.dto.ApiResponse<List<?>>> getAllEvents(
+            @Parameter(description = "Cursor returned as nextCursor by the previous page") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size, capped by the server") @RequestParam(required = false) Integer size,
+            @Parameter(description = "Response view: full (default) or summary, which leaves out descriptions and speakers") @RequestParam(required = false) String view,
+            WebRequest webRequest) {
         log.info("Getting all events");
-        Long userId = getUserIdFromToken();
-        List<EventDTO> events = eventService.getAllEvents(userId);
-        return ResponseEntity.ok(com.eventmanagement.dto.ApiResponse.<List<EventDTO>>builder()
+        boolean summary = isSummaryView(view);
+        Long userId = AuthenticatedUser.currentUserId();
+        String etag = catalogVersion.listTag(userId);
+        if (webRequest.checkNotModified(etag)) {
+            return notModified(etag, userId);
+        }
+        CursorPage<?> page = summary
+                ? eventService.getAllEventSummaries(userId, cursor, size)
+                : eventService.getAllEvents(userId, cursor, size);
+        return cacheable(etag, userId).body(com.eventmanagement.dto.ApiResponse.<List<?>>builder()
                 .success(true)
                 .message("Events retrieved successfully")
-                .data(events)
+                .data(page.getItems())
+                .nextCursor(page.getNextCursor())
                 .build());
     }
 
@@ -57,14 +73,57 @@ public class EventController {
     @Operation(summary = "Get upcoming events", description = "Retrieve events scheduled for future dates")
     @SecurityRequirement(name = "Bearer Authentication")
     @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Upcoming events retrieved successfully")
-    public ResponseEntity<com.eventmanagement.dto.ApiResponse<List<EventDTO>>> getUpcomingEvents() {
+    public ResponseEntity<com.eventmanagement.dto.ApiResponse<List<?>>> getUpcomingEvents(
+            @Parameter(description = "Cursor returned as nextCursor by the previous page") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size, capped by the server") @RequestParam(required = false) Integer size,
+            @Parameter(description = "Only events starting at or before this ISO date-time") @RequestParam(required = false) String until,
+            @Parameter(description = "Response view: full (default) or summary, which leaves out descriptions and speakers") @RequestParam(required = false) String view,
+            WebRequest webRequest) {
         log.info("Getting upcoming events");
-        Long userId = getUserIdFromToken();
-        List<EventDTO> events = eventService.getUpcomingEvents(userId);
-        return ResponseEntity.ok(com.eventmanagement.dto.ApiResponse.<List<EventDTO>>builder()
+        boolean summary = isSummaryView(view);
+        Long userId = AuthenticatedUser.currentUserId();
+        String etag = catalogVersion.listTag(userId);
+        if (webRequest.checkNotModified(etag)) {
+            return notModified(etag, userId);
+        }
+        CursorPage<?> page = summary
+                ? eventService.getUpcomingEventSummaries(userId, cursor, size, until)
+                : eventService.getUpcomingEvents(userId, cursor, size, until);
+        return cacheable(etag, userId).body(com.eventmanagement.dto.ApiResponse.<List<?>>builder()
                 .success(true)
                 .message("Upcoming events retrieved successfully")
-                .data(events)
+                .data(page.getItems())
+                .nextCursor(page.getNextCursor())
+                .build());
+    }
+
+    @GetMapping("/export")
+    @Operation(summary = "Export events", description = "Stream all active events ordered by date in a single response, without pagination")
+    @SecurityRequirement(name = "Bearer Authentication")
+    @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Events exported successfully")
+    public ResponseEntity<StreamingResponseBody> exportEvents(WebRequest webRequest) {
+        log.info("Exporting events");
+        Long userId = AuthenticatedUser.currentUserId();
+        String etag = catalogVersion.listTag(userId);
+        if (webRequest.checkNotModified(etag)) {
+            return notModified(etag, userId);
+        }
+        StreamingResponseBody body = out -> eventService.exportEvents(userId, out);
+        return cacheable(etag, userId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body);
+    }
+
+    @GetMapping("/facets")
+    @Operation(summary = "Get event facets", description = "Count active and upcoming events per category and per venue")
+    @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Event facets retrieved successfully")
+    public ResponseEntity<com.eventmanagement.dto.ApiResponse<EventFacetsDTO>> getEventFacets() {
+        log.info("Getting event facets");
+        EventFacetsDTO facets = eventService.getEventFacets();
+        return ResponseEntity.ok(com.eventmanagement.dto.ApiResponse.<EventFacetsDTO>builder()
+                .success(true)
+                .message("Event facets retrieved successfully")
+                .data(facets)
                 .build());
     }
 
@@ -74,11 +133,16 @@ public class EventController {
     @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Event retrieved successfully")
     @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "Event not found")
     public ResponseEntity<com.eventmanagement.dto.ApiResponse<EventDTO>> getEventById(
-            @Parameter(description = "Event ID") @PathVariable Long id) {
+            @Parameter(description = "Event ID") @PathVariable Long id,
+            WebRequest webRequest) {
         log.info("Getting event with id: {}", id);
-        Long userId = getUserIdFromToken();
+        Long userId = AuthenticatedUser.currentUserId();
+        String etag = catalogVersion.eventTag(id, userId);
+        if (webRequest.checkNotModified(etag)) {
+            return notModified(etag, userId);
+        }
         EventDTO event = eventService.getEventById(id, userId);
-        return ResponseEntity.ok(com.eventmanagement.dto.ApiResponse.<EventDTO>builder()
+        return cacheable(etag, userId).body(com.eventmanagement.dto.ApiResponse.<EventDTO>builder()
                 .success(true)
                 .message("Event retrieved successfully")
                 .data(event)
@@ -86,18 +150,30 @@ public class EventController {
     }
 
     @GetMapping("/search")
-    @Operation(summary = "Search events", description = "Search events by title or category")
+    @Operation(summary = "Search events", description = "Search active events by title, category, venue or description; all terms must match and results are ranked by relevance")
     @SecurityRequirement(name = "Bearer Authentication")
     @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Events searched successfully")
-    public ResponseEntity<com.eventmanagement.dto.ApiResponse<List<EventDTO>>> searchEvents(
-            @Parameter(description = "Search query") @RequestParam String q) {
+    public ResponseEntity<com.eventmanagement.dto.ApiResponse<List<?>>> searchEvents(
+            @Parameter(description = "Search query") @RequestParam String q,
+            @Parameter(description = "Cursor returned as nextCursor by the previous page") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size, capped by the server") @RequestParam(required = false) Integer size,
+            @Parameter(description = "Response view: full (default) or summary, which leaves out descriptions and speakers") @RequestParam(required = false) String view,
+            WebRequest webRequest) {
         log.info("Searching events with query: {}", q);
-        Long userId = getUserIdFromToken();
-        List<EventDTO> events = eventService.searchEvents(q, userId);
-        return ResponseEntity.ok(com.eventmanagement.dto.ApiResponse.<List<EventDTO>>builder()
+        boolean summary = isSummaryView(view);
+        Long userId = AuthenticatedUser.currentUserId();
+        String etag = catalogVersion.listTag(userId);
+        if (webRequest.checkNotModified(etag)) {
+            return notModified(etag, userId);
+        }
+        CursorPage<?> page = summary
+                ? eventService.searchEventSummaries(q, userId, cursor, size)
+                : eventService.searchEvents(q, userId, cursor, size);
+        return cacheable(etag, userId).body(com.eventmanagement.dto.ApiResponse.<List<?>>builder()
                 .success(true)
                 .message("Events searched successfully")
-                .data(events)
+                .data(page.getItems())
+                .nextCursor(page.getNextCursor())
                 .build());
     }
 
@@ -105,15 +181,27 @@ public class EventController {
     @Operation(summary = "Get events by category", description = "Retrieve events filtered by category")
     @SecurityRequirement(name = "Bearer Authentication")
     @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Events retrieved by category successfully")
-    public ResponseEntity<com.eventmanagement.dto.ApiResponse<List<EventDTO>>> getEventsByCategory(
-            @Parameter(description = "Event category") @PathVariable String category) {
+    public ResponseEntity<com.eventmanagement.dto.ApiResponse<List<?>>> getEventsByCategory(
+            @Parameter(description = "Event category") @PathVariable String category,
+            @Parameter(description = "Cursor returned as nextCursor by the previous page") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size, capped by the server") @RequestParam(required = false) Integer size,
+            @Parameter(description = "Response view: full (default) or summary, which leaves out descriptions and speakers") @RequestParam(required = false) String view,
+            WebRequest webRequest) {
         log.info("Getting events by category: {}", category);
-        Long userId = getUserIdFromToken();
-        List<EventDTO> events = eventService.getEventsByCategory(category, userId);
-        return ResponseEntity.ok(com.eventmanagement.dto.ApiResponse.<List<EventDTO>>builder()
+        boolean summary = isSummaryView(view);
+        Long userId = AuthenticatedUser.currentUserId();
+        String etag = catalogVersion.listTag(userId);
+        if (webRequest.checkNotModified(etag)) {
+            return notModified(etag, userId);
+        }
+        CursorPage<?> page = summary
+                ? eventService.getEventSummariesByCategory(category, userId, cursor, size)
+                : eventService.getEventsByCategory(category, userId, cursor, size);
+        return cacheable(etag, userId).body(com.eventmanagement.dto.ApiResponse.<List<?>>builder()
                 .success(true)
                 .message("Events retrieved by category successfully")
-                .data(events)
+                .data(page.getItems())
+                .nextCursor(page.getNextCursor())
                 .build());
     }
 
@@ -127,7 +215,7 @@ public class EventController {
     })
     public ResponseEntity<com.eventmanagement.dto.ApiResponse<EventDTO>> createEvent(@RequestBody CreateEventRequest request) {
         log.info("Creating new event: {}", request.getTitle());
-        Long userId = getUserIdFromToken();
+        Long userId = AuthenticatedUser.currentUserId();
         EventDTO event = eventService.createEvent(request, userId);
         return ResponseEntity.status(HttpStatus.CREATED)
                 .body(com.eventmanagement.dto.ApiResponse.<EventDTO>builder()
@@ -149,7 +237,7 @@ public class EventController {
             @Parameter(description = "Event ID") @PathVariable Long id,
             @RequestBody CreateEventRequest request) {
         log.info("Updating event: {}", id);
-        Long userId = getUserIdFromToken();
+        Long userId = AuthenticatedUser.currentUserId();
         EventDTO event = eventService.updateEvent(id, request, userId);
         return ResponseEntity.ok(com.eventmanagement.dto.ApiResponse.<EventDTO>builder()
                 .success(true)
@@ -169,7 +257,7 @@ public class EventController {
     public ResponseEntity<com.eventmanagement.dto.ApiResponse<Object>> deleteEvent(
             @Parameter(description = "Event ID") @PathVariable Long id) {
         log.info("Deleting event: {}", id);
-        Long userId = getUserIdFromToken();
+        Long userId = AuthenticatedUser.currentUserId();
         eventService.deleteEvent(id, userId);
         return ResponseEntity.ok(com.eventmanagement.dto.ApiResponse.<Object>builder()
                 .success(true)
@@ -178,28 +266,29 @@ public class EventController {
                 .build());
     }
 
-    private Long getUserIdFromToken() {
-        try {
-            String token = getTokenFromRequest();
-            if (token != null && jwtProvider.validateToken(token)) {
-                return jwtProvider.getUserIdFromToken(token);
-            }
-        } catch (Exception e) {
-            log.error("Error extracting userId from token", e);
+    private boolean isSummaryView(String view) {
+        if (view == null || view.equalsIgnoreCase("full")) {
+            return false;
+        }
+        if (view.equalsIgnoreCase("summary")) {
+            return true;
         }
-        return null;
+        throw new BadRequestException("Unknown view: " + view);
     }
 
-    private String getTokenFromRequest() {
-        try {
-            HttpServletRequest request = ((ServletRequestAttributes) RequestContextHolder.getRequestAttributes()).getRequest();
-            String bearerToken = request.getHeader("Authorization");
-            if (bearerToken != null && bearerToken.startsWith("Bearer ")) {
-                return bearerToken.substring(7);
-            }
-        } catch (Exception e) {
-            log.debug("Could not extract token from request", e);
-        }
-        return null;
+    private ResponseEntity.BodyBuilder cacheable(String etag, Long userId) {
+        return withValidator(ResponseEntity.ok(), etag, userId);
+    }
+
+    private <T> ResponseEntity<T> notModified(String etag, Long userId) {
+        return withValidator(ResponseEntity.status(HttpStatus.NOT_MODIFIED), etag, userId).build();
+    }
+
+    private ResponseEntity.BodyBuilder withValidator(ResponseEntity.BodyBuilder builder, String etag, Long userId) {
+        // Clients must revalidate; per-user responses stay out of shared caches
+        CacheControl cacheControl = userId != null ? CacheControl.noCache().cachePrivate() : CacheControl.noCache();
+        return builder.eTag(etag)
+                .cacheControl(cacheControl)
+                .varyBy(HttpHeaders.AUTHORIZATION);
     }
 }
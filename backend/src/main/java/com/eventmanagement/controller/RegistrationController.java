@@ -1,8 +1,20 @@
 package com.eventmanagement.controller;
 
-import com.eventmanagement.config.JwtProvider;
+import com.eventmanagement.config.AuthenticatedUser;
 import com.eventmanagement.dto.ApiResponse;
+import com.eventmanagement.dto.AttendeeDTO;
+import com.eventmanagement.dto.BulkCheckInRequest;
+import com.eventmanagement.dto.BulkCheckInResultDTO;
+import com.eventmanagement.dto.BulkRegistrationRequest;
+import com.eventmanagement.dto.BulkRegistrationResultDTO;
+import com.eventmanagement.dto.CursorPage;
+import com.eventmanagement.dto.RegistrationDTO;
+import com.eventmanagement.dto.WaitlistPositionDTO;
+import com.eventmanagement.entity.RegistrationStatus;
+import com.eventmanagement.exception.BadRequestException;
+import com.eventmanagement.registration.RegistrationAdmission;
 import com.eventmanagement.service.RegistrationService;
+import com.eventmanagement.service.WaitlistService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
@@ -12,13 +24,9 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
-import org.springframework.web.context.request.RequestContextHolder;
-import org.springframework.web.context.request.ServletRequestAttributes;
 
-import jakarta.servlet.http.HttpServletRequest;
+import java.util.List;
 
 @RestController
 @RequestMapping("/registrations")
@@ -31,22 +39,36 @@ public class RegistrationController {
     private RegistrationService registrationService;
 
     @Autowired
-    private JwtProvider jwtProvider;
+    private WaitlistService waitlistService;
+
+    // Bounds concurrent registration work per event, see RegistrationAdmission
+    @Autowired
+    private RegistrationAdmission admission;
 
     @PostMapping("/events/{eventId}")
     @Operation(summary = "Register for event", description = "Register the authenticated user for a specific event")
     @SecurityRequirement(name = "Bearer Authentication")
     @ApiResponses(value = {
         @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "201", description = "Event registration successful"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "202", description = "Event is full, added to the waitlist"),
         @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "Invalid request or already registered"),
         @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "401", description = "Unauthorized"),
-        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "Event not found")
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "Event not found"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "429", description = "Too many registration requests for the event, retry after Retry-After seconds")
     })
     public ResponseEntity<com.eventmanagement.dto.ApiResponse<Object>> registerForEvent(
             @Parameter(description = "Event ID") @PathVariable Long eventId) {
         log.info("Registering for event: {}", eventId);
-        Long userId = extractUserIdFromToken();
-        registrationService.registerForEvent(eventId, userId);
+        Long userId = AuthenticatedUser.currentUserId();
+        RegistrationStatus status = admission.admit(eventId, () -> registrationService.registerForEvent(eventId, userId));
+        if (status == RegistrationStatus.WAITLISTED) {
+            return ResponseEntity.status(HttpStatus.ACCEPTED)
+                    .body(com.eventmanagement.dto.ApiResponse.<Object>builder()
+                        .success(true)
+                        .message("Event is full, added to the waitlist")
+                        .data(waitlistService.getPosition(eventId, userId))
+                        .build());
+        }
         return ResponseEntity.status(HttpStatus.CREATED)
                 .body(com.eventmanagement.dto.ApiResponse.<Object>builder()
                     .success(true)
@@ -55,19 +77,154 @@ public class RegistrationController {
                     .build());
     }
 
+    @PostMapping("/events/{eventId}/bulk")
+    @Operation(summary = "Register a group for event",
+            description = "Register up to registration.bulk.max-size users, by id or email, for an event the caller organizes. " +
+                    "ALL_OR_NOTHING (default) fails when the group does not fit; BEST_EFFORT fills the free seats in request order")
+    @SecurityRequirement(name = "Bearer Authentication")
+    @ApiResponses(value = {
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Group registration processed, with an outcome per user"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "Invalid request, not enough seats or no permission"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "401", description = "Unauthorized"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "Event not found"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "429", description = "Too many registration requests for the event, retry after Retry-After seconds")
+    })
+    public ResponseEntity<com.eventmanagement.dto.ApiResponse<BulkRegistrationResultDTO>> registerGroup(
+            @Parameter(description = "Event ID") @PathVariable Long eventId,
+            @RequestBody BulkRegistrationRequest request) {
+        log.info("Registering group for event: {}", eventId);
+        Long userId = AuthenticatedUser.currentUserId();
+        BulkRegistrationResultDTO result = admission.admit(eventId, () -> registrationService.registerGroup(eventId, request, userId));
+        return ResponseEntity.ok(com.eventmanagement.dto.ApiResponse.<BulkRegistrationResultDTO>builder()
+                .success(true)
+                .message("Group registration processed")
+                .data(result)
+                .build());
+    }
+
+    @GetMapping("/events/{eventId}/waitlist-position")
+    @Operation(summary = "Get waitlist position", description = "Position of the authenticated user on the event's waitlist, 1 being next")
+    @SecurityRequirement(name = "Bearer Authentication")
+    @ApiResponses(value = {
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Waitlist position retrieved successfully"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "Not on the waitlist"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "401", description = "Unauthorized")
+    })
+    public ResponseEntity<com.eventmanagement.dto.ApiResponse<WaitlistPositionDTO>> getWaitlistPosition(
+            @Parameter(description = "Event ID") @PathVariable Long eventId) {
+        Long userId = AuthenticatedUser.currentUserId();
+        WaitlistPositionDTO position = waitlistService.getPosition(eventId, userId);
+        return ResponseEntity.ok(com.eventmanagement.dto.ApiResponse.<WaitlistPositionDTO>builder()
+                .success(true)
+                .message("Waitlist position retrieved successfully")
+                .data(position)
+                .build());
+    }
+
+    @GetMapping("/my-registrations")
+    @Operation(summary = "Get my registrations", description = "Registrations of the authenticated user in registration order, one cursor page at a time")
+    @SecurityRequirement(name = "Bearer Authentication")
+    @ApiResponses(value = {
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Registrations retrieved successfully"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "Invalid cursor, size or status"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "401", description = "Unauthorized")
+    })
+    public ResponseEntity<com.eventmanagement.dto.ApiResponse<List<RegistrationDTO>>> getUserRegistrations(
+            @Parameter(description = "Only registrations in this status; all but CANCELLED by default") @RequestParam(required = false) String status,
+            @Parameter(description = "Cursor returned as nextCursor by the previous page") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size, capped by the server") @RequestParam(required = false) Integer size) {
+        Long userId = AuthenticatedUser.currentUserId();
+        CursorPage<RegistrationDTO> page = registrationService.getUserRegistrations(userId, parseStatus(status), cursor, size);
+        return ResponseEntity.ok(com.eventmanagement.dto.ApiResponse.<List<RegistrationDTO>>builder()
+                .success(true)
+                .message("Registrations retrieved successfully")
+                .data(page.getItems())
+                .nextCursor(page.getNextCursor())
+                .build());
+    }
+
+    @GetMapping("/events/{eventId}")
+    @Operation(summary = "Get event roster", description = "Registrations of an event the caller organizes, in registration order, one cursor page at a time")
+    @SecurityRequirement(name = "Bearer Authentication")
+    @ApiResponses(value = {
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Event registrations retrieved successfully"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "Invalid cursor, size or status, or no permission"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "401", description = "Unauthorized"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "Event not found")
+    })
+    public ResponseEntity<com.eventmanagement.dto.ApiResponse<List<AttendeeDTO>>> getEventRegistrations(
+            @Parameter(description = "Event ID") @PathVariable Long eventId,
+            @Parameter(description = "Only registrations in this status; REGISTERED and ATTENDED by default") @RequestParam(required = false) String status,
+            @Parameter(description = "Cursor returned as nextCursor by the previous page") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size, capped by the server") @RequestParam(required = false) Integer size) {
+        Long userId = AuthenticatedUser.currentUserId();
+        CursorPage<AttendeeDTO> page = registrationService.getEventRegistrations(eventId, userId, parseStatus(status), cursor, size);
+        return ResponseEntity.ok(com.eventmanagement.dto.ApiResponse.<List<AttendeeDTO>>builder()
+                .success(true)
+                .message("Event registrations retrieved successfully")
+                .data(page.getItems())
+                .nextCursor(page.getNextCursor())
+                .build());
+    }
+
+    @PostMapping("/events/{eventId}/check-ins")
+    @Operation(summary = "Check in a batch of scans",
+            description = "Check in up to registration.check-in.max-size scanned users at an event the caller organizes. " +
+                    "Repeat scans are reported as ALREADY_CHECKED_IN rather than failing")
+    @SecurityRequirement(name = "Bearer Authentication")
+    @ApiResponses(value = {
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Check-ins processed, with an outcome per user"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "Invalid request or no permission"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "401", description = "Unauthorized"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "Event not found")
+    })
+    public ResponseEntity<com.eventmanagement.dto.ApiResponse<BulkCheckInResultDTO>> checkIn(
+            @Parameter(description = "Event ID") @PathVariable Long eventId,
+            @RequestBody BulkCheckInRequest request) {
+        Long userId = AuthenticatedUser.currentUserId();
+        BulkCheckInResultDTO result = registrationService.checkIn(eventId, request.getUserIds(), userId);
+        return ResponseEntity.ok(com.eventmanagement.dto.ApiResponse.<BulkCheckInResultDTO>builder()
+                .success(true)
+                .message("Check-ins processed")
+                .data(result)
+                .build());
+    }
+
+    @PostMapping("/attend/{eventId}/{userId}")
+    @Operation(summary = "Mark attendance", description = "Check a registered user in at an event the caller organizes")
+    @SecurityRequirement(name = "Bearer Authentication")
+    @ApiResponses(value = {
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Attendance marked successfully"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "Not registered, already checked in or no permission"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "401", description = "Unauthorized"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "Event not found")
+    })
+    public ResponseEntity<com.eventmanagement.dto.ApiResponse<Object>> markAsAttended(
+            @Parameter(description = "Event ID") @PathVariable Long eventId,
+            @Parameter(description = "User ID") @PathVariable Long userId) {
+        log.info("Marking user {} as attended for event: {}", userId, eventId);
+        registrationService.markAsAttended(eventId, userId, AuthenticatedUser.currentUserId());
+        return ResponseEntity.ok(com.eventmanagement.dto.ApiResponse.<Object>builder()
+                .success(true)
+                .message("Attendance marked successfully")
+                .data(null)
+                .build());
+    }
+
     @DeleteMapping("/events/{eventId}")
     @Operation(summary = "Cancel event registration", description = "Cancel the user's registration for a specific event")
     @SecurityRequirement(name = "Bearer Authentication")
     @ApiResponses(value = {
         @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Registration cancelled successfully"),
         @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "401", description = "Unauthorized"),
-        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "Event or registration not found")
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "Event or registration not found"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "429", description = "Too many registration requests for the event, retry after Retry-After seconds")
     })
     public ResponseEntity<com.eventmanagement.dto.ApiResponse<Object>> cancelRegistration(
             @Parameter(description = "Event ID") @PathVariable Long eventId) {
         log.info("Cancelling registration for event: {}", eventId);
-        Long userId = extractUserIdFromToken();
-        registrationService.cancelRegistration(eventId, userId);
+        Long userId = AuthenticatedUser.currentUserId();
+        admission.admit(eventId, () -> registrationService.cancelRegistration(eventId, userId));
         return ResponseEntity.ok(com.eventmanagement.dto.ApiResponse.<Object>builder()
                 .success(true)
                 .message("Registration cancelled successfully")
@@ -75,28 +232,14 @@ public class RegistrationController {
                 .build());
     }
 
-    private Long extractUserIdFromToken() {
-        try {
-            String token = getTokenFromRequest();
-            if (token != null && jwtProvider.validateToken(token)) {
-                return jwtProvider.getUserIdFromToken(token);
-            }
-        } catch (Exception e) {
-            log.error("Error extracting userId from token", e);
+    private RegistrationStatus parseStatus(String status) {
+        if (status == null || status.isBlank()) {
+            return null;
         }
-        return null;
-    }
-
-    private String getTokenFromRequest() {
         try {
-            HttpServletRequest request = ((ServletRequestAttributes) RequestContextHolder.getRequestAttributes()).getRequest();
-            String bearerToken = request.getHeader("Authorization");
-            if (bearerToken != null && bearerToken.startsWith("Bearer ")) {
-                return bearerToken.substring(7);
-            }
-        } catch (Exception e) {
-            log.debug("Could not extract token from request", e);
+            return RegistrationStatus.valueOf(status.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("Invalid status: " + status);
         }
-        return null;
     }
 }
@@ -0,0 +1,70 @@
+package com.eventmanagement.controller;
+
+import com.eventmanagement.config.AuthenticatedUser;
+import com.eventmanagement.dto.EventSummaryDTO;
+import com.eventmanagement.dto.SpeakerDTO;
+import com.eventmanagement.service.SpeakerService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/speakers")
+@CrossOrigin(origins = "*", maxAge = 3600)
+@Slf4j
+@Tag(name = "Speakers", description = "Speaker catalog endpoints")
+public class SpeakerController {
+
+    @Autowired
+    private SpeakerService speakerService;
+
+    @GetMapping
+    @Operation(summary = "Get all speakers", description = "Retrieve all speakers ordered by name")
+    @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Speakers retrieved successfully")
+    public ResponseEntity<com.eventmanagement.dto.ApiResponse<List<SpeakerDTO>>> getAllSpeakers() {
+        log.info("Getting all speakers");
+        List<SpeakerDTO> speakers = speakerService.getAllSpeakers();
+        return ResponseEntity.ok(com.eventmanagement.dto.ApiResponse.<List<SpeakerDTO>>builder()
+                .success(true)
+                .message("Speakers retrieved successfully")
+                .data(speakers)
+                .build());
+    }
+
+    @GetMapping("/{id}")
+    @Operation(summary = "Get speaker by ID", description = "Retrieve a single speaker")
+    @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Speaker retrieved successfully")
+    @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "Speaker not found")
+    public ResponseEntity<com.eventmanagement.dto.ApiResponse<SpeakerDTO>> getSpeakerById(
+            @Parameter(description = "Speaker ID") @PathVariable Long id) {
+        log.info("Getting speaker with id: {}", id);
+        SpeakerDTO speaker = speakerService.getSpeakerById(id);
+        return ResponseEntity.ok(com.eventmanagement.dto.ApiResponse.<SpeakerDTO>builder()
+                .success(true)
+                .message("Speaker retrieved successfully")
+                .data(speaker)
+                .build());
+    }
+
+    @GetMapping("/{id}/events")
+    @Operation(summary = "Get events by speaker", description = "Retrieve summaries of the active events a speaker appears at, ordered by date")
+    @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Speaker events retrieved successfully")
+    @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "Speaker not found")
+    public ResponseEntity<com.eventmanagement.dto.ApiResponse<List<EventSummaryDTO>>> getSpeakerEvents(
+            @Parameter(description = "Speaker ID") @PathVariable Long id) {
+        log.info("Getting events for speaker: {}", id);
+        Long userId = AuthenticatedUser.currentUserId();
+        List<EventSummaryDTO> events = speakerService.getSpeakerEvents(id, userId);
+        return ResponseEntity.ok(com.eventmanagement.dto.ApiResponse.<List<EventSummaryDTO>>builder()
+                .success(true)
+                .message("Speaker events retrieved successfully")
+                .data(events)
+                .build());
+    }
+}
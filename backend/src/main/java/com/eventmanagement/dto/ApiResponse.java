@@ -1,5 +1,6 @@
 package com.eventmanagement.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -13,4 +14,8 @@ public class ApiResponse<T> {
     private Boolean success;
     private String message;
     private T data;
+
+    // Opaque cursor for the next page of a paginated list, absent on the last page
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String nextCursor;
 }
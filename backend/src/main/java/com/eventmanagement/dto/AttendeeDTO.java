@@ -0,0 +1,26 @@
+package com.eventmanagement.dto;
+
+import com.eventmanagement.entity.RegistrationStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Roster entry of an event, selected by a JPQL constructor expression.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AttendeeDTO {
+    private Long registrationId;
+    private Long userId;
+    private String firstName;
+    private String lastName;
+    private String email;
+    private RegistrationStatus status;
+    private LocalDateTime registeredAt;
+}
@@ -0,0 +1,17 @@
+package com.eventmanagement.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BulkCheckInRequest {
+    // Scanned badges in scan order; repeats are allowed
+    private List<Long> userIds;
+}
@@ -0,0 +1,24 @@
+package com.eventmanagement.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BulkRegistrationOutcomeDTO {
+
+    public enum Outcome {
+        REGISTERED,
+        ALREADY_REGISTERED,
+        USER_NOT_FOUND,
+        NO_CAPACITY
+    }
+
+    private Long userId;
+    private String email;
+    private Outcome outcome;
+}
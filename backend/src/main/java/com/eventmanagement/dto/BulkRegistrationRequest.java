@@ -0,0 +1,26 @@
+package com.eventmanagement.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BulkRegistrationRequest {
+
+    public enum Mode {
+        // Register everyone or nobody when there are not enough seats
+        ALL_OR_NOTHING,
+        // Fill the free seats in request order and report the rest
+        BEST_EFFORT
+    }
+
+    private List<Long> userIds;
+    private List<String> emails;
+    private Mode mode;
+}
@@ -0,0 +1,18 @@
+package com.eventmanagement.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BulkRegistrationResultDTO {
+    private Long eventId;
+    private Integer registeredCount;
+    private List<BulkRegistrationOutcomeDTO> outcomes;
+}
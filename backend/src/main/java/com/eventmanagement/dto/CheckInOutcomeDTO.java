@@ -0,0 +1,22 @@
+package com.eventmanagement.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CheckInOutcomeDTO {
+
+    public enum Outcome {
+        CHECKED_IN,
+        ALREADY_CHECKED_IN,
+        NOT_REGISTERED
+    }
+
+    private Long userId;
+    private Outcome outcome;
+}
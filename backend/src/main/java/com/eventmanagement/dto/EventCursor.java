@@ -0,0 +1,54 @@
+package com.eventmanagement.dto;
+
+import com.eventmanagement.exception.BadRequestException;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * Keyset position in the (eventDate, id) ordering used by the event list endpoints, or in
+ * the (score, eventDate, id) ranking of search results when a score is present.
+ * Clients only ever see the encoded form and pass it back unchanged.
+ */
+@Data
+@AllArgsConstructor
+public class EventCursor {
+
+    // Lower bound of MySQL DATETIME, sorts before every stored event
+    public static final EventCursor FIRST = new EventCursor(LocalDateTime.of(1000, 1, 1, 0, 0), 0L);
+
+    private Double score;
+    private LocalDateTime eventDate;
+    private Long id;
+
+    public EventCursor(LocalDateTime eventDate, Long id) {
+        this(null, eventDate, id);
+    }
+
+    public String encode() {
+        String raw = (score != null ? score + "|" : "") + eventDate + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static EventCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return FIRST;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|");
+            if (parts.length == 3) {
+                return new EventCursor(Double.parseDouble(parts[0]), LocalDateTime.parse(parts[1]), Long.parseLong(parts[2]));
+            }
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Unexpected cursor format");
+            }
+            return new EventCursor(LocalDateTime.parse(parts[0]), Long.parseLong(parts[1]));
+        } catch (RuntimeException e) {
+            throw new BadRequestException("Invalid cursor");
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.eventmanagement.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * List item for {@code view=summary}: the event card fields only, without the description
+ * or speakers, so it can be selected by a JPQL constructor expression.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder(toBuilder = true)
+public class EventSummaryDTO {
+    private Long id;
+    private String title;
+    private LocalDateTime eventDate;
+    private String venue;
+    private String category;
+    private Integer capacity;
+    private Integer registeredCount;
+    private String createdByName;
+    private Boolean isRegistered;
+
+    public EventSummaryDTO(Long id, String title, LocalDateTime eventDate, String venue, String category,
+                           Integer capacity, Integer registeredCount, String createdByName) {
+        this(id, title, eventDate, venue, category, capacity, registeredCount, createdByName, false);
+    }
+}
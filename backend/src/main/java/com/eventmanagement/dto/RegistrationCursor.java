@@ -0,0 +1,34 @@
+package com.eventmanagement.dto;
+
+import com.eventmanagement.exception.BadRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Keyset position in the registration id ordering used by the registration list endpoints.
+ * Like {@link EventCursor}, clients only see the encoded form.
+ */
+public final class RegistrationCursor {
+
+    public static final long FIRST = 0L;
+
+    private RegistrationCursor() {
+    }
+
+    public static String encode(Long registrationId) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(String.valueOf(registrationId).getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static long decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return FIRST;
+        }
+        try {
+            return Long.parseLong(new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8));
+        } catch (RuntimeException e) {
+            throw new BadRequestException("Invalid cursor");
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.eventmanagement.dto;
+
+import com.eventmanagement.entity.RegistrationStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * One of the caller's registrations with the event card fields it is shown with, selected
+ * by a JPQL constructor expression.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RegistrationDTO {
+    private Long id;
+    private Long eventId;
+    private String eventTitle;
+    private LocalDateTime eventDate;
+    private String venue;
+    private String category;
+    private RegistrationStatus status;
+    private LocalDateTime registeredAt;
+}
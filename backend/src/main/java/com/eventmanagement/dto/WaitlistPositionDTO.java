@@ -0,0 +1,16 @@
+package com.eventmanagement.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class WaitlistPositionDTO {
+    private Long eventId;
+    // 1 is next in line
+    private Long position;
+}
@@ -5,13 +5,20 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.LocalDateTime;
 import java.util.HashSet;
 import java.util.Set;
 
 @Entity
-@Table(name = "events")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "events")
+@Table(name = "events", indexes = {
+    @Index(name = "idx_events_active_date", columnList = "is_active, event_date, id"),
+    @Index(name = "idx_events_updated_at", columnList = "updated_at")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -39,7 +46,8 @@ public class Event {
     @Column(nullable = false)
     private Integer capacity;
 
-    @Column(nullable = false)
+    // Only moved by the conditional seat updates in EventRepository, never by an entity flush
+    @Column(nullable = false, updatable = false)
     private Integer registeredCount;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -47,6 +55,7 @@ public class Event {
     private User createdBy;
 
     @OneToMany(mappedBy = "event", cascade = CascadeType.ALL, orphanRemoval = true)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "event-speaker-sets")
     private Set<EventSpeaker> speakers = new HashSet<>();
 
     @OneToMany(mappedBy = "event", cascade = CascadeType.ALL, orphanRemoval = true)
@@ -11,6 +11,9 @@ import java.time.LocalDateTime;
 @Entity
 @Table(name = "event_registrations", uniqueConstraints = {
     @UniqueConstraint(columnNames = {"event_id", "user_id"})
+}, indexes = {
+    @Index(name = "idx_registrations_waitlist", columnList = "event_id, status, waitlisted_at"),
+    @Index(name = "idx_registrations_event_roster", columnList = "event_id, id")
 })
 @Data
 @NoArgsConstructor
@@ -39,9 +42,14 @@ public class EventRegistration {
     @Column(nullable = true)
     private LocalDateTime confirmationSentAt;
 
+    @Column(nullable = true)
+    private LocalDateTime waitlistedAt;
+
     @PrePersist
     protected void onCreate() {
         registeredAt = LocalDateTime.now();
-        status = RegistrationStatus.REGISTERED;
+        if (status == null) {
+            status = RegistrationStatus.REGISTERED;
+        }
     }
 }
@@ -3,5 +3,7 @@ package com.eventmanagement.entity;
 public enum RegistrationStatus {
     REGISTERED,
     CANCELLED,
-    ATTENDED
+    ATTENDED,
+    // Holds no seat; promoted in waitlistedAt order when one frees up
+    WAITLISTED
 }
@@ -0,0 +1,179 @@
+package com.eventmanagement.idempotency;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Recent Idempotency-Keys and their responses. Completed responses sit in a bounded cache;
+ * a key whose request is still running maps to a future that concurrent duplicates wait on,
+ * so exactly one of them does the work.
+ *
+ * With idempotency.persistent set, keys are also claimed in the idempotency_keys table, which
+ * extends the guarantee across instances and restarts. A claim left behind by a crashed
+ * instance can be taken over once it is older than the lock timeout.
+ */
+@Component
+@Slf4j
+public class IdempotencyStore implements MeterBinder {
+
+    public enum State {
+        // The caller runs the request and must complete or abandon the key
+        OWNER,
+        // A response is stored
+        REPLAY,
+        // The same key is running in this process
+        WAITING,
+        // The same key is running on another instance
+        IN_PROGRESS
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class Claim {
+        private final State state;
+        private final StoredResponse response;
+        private final CompletableFuture<StoredResponse> pending;
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean persistent;
+    private final Duration ttl;
+    private final Duration lockTimeout;
+    private final Cache<String, StoredResponse> completed;
+    private final Map<String, CompletableFuture<StoredResponse>> inFlight = new ConcurrentHashMap<>();
+
+    public IdempotencyStore(JdbcTemplate jdbcTemplate,
+                            @Value("${idempotency.persistent:false}") boolean persistent,
+                            @Value("${idempotency.max-keys:100000}") long maxKeys,
+                            @Value("${idempotency.ttl:24h}") Duration ttl,
+                            @Value("${idempotency.lock-timeout:1m}") Duration lockTimeout) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.persistent = persistent;
+        this.ttl = ttl;
+        this.lockTimeout = lockTimeout;
+        this.completed = Caffeine.newBuilder()
+                .maximumSize(maxKeys)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+    }
+
+    public Claim claim(String key, String fingerprint) {
+        StoredResponse done = completed.getIfPresent(key);
+        if (done != null) {
+            return new Claim(State.REPLAY, done, null);
+        }
+
+        CompletableFuture<StoredResponse> mine = new CompletableFuture<>();
+        CompletableFuture<StoredResponse> running = inFlight.putIfAbsent(key, mine);
+        if (running != null) {
+            return new Claim(State.WAITING, null, running);
+        }
+        // It may have completed between the cache check and taking the in-flight slot
+        done = completed.getIfPresent(key);
+        if (done != null) {
+            release(key, mine, done);
+            return new Claim(State.REPLAY, done, null);
+        }
+        if (persistent) {
+            Claim row = claimRow(key, fingerprint);
+            if (row.getState() != State.OWNER) {
+                release(key, mine, row.getResponse());
+                return row;
+            }
+        }
+        return new Claim(State.OWNER, null, mine);
+    }
+
+    public void complete(String key, StoredResponse response) {
+        completed.put(key, response);
+        if (persistent) {
+            try {
+                jdbcTemplate.update("UPDATE idempotency_keys SET response_status = ?, content_type = ?, body = ? WHERE id = ?",
+                        response.getStatus(), response.getContentType(), response.getBody(), key);
+            } catch (RuntimeException e) {
+                log.warn("Could not store the response for idempotency key {}", key, e);
+            }
+        }
+        release(key, inFlight.get(key), response);
+    }
+
+    public void abandon(String key) {
+        if (persistent) {
+            try {
+                jdbcTemplate.update("DELETE FROM idempotency_keys WHERE id = ? AND response_status IS NULL", key);
+            } catch (RuntimeException e) {
+                log.warn("Could not release idempotency key {}", key, e);
+            }
+        }
+        release(key, inFlight.get(key), null);
+    }
+
+    @Scheduled(fixedDelayString = "${idempotency.purge-interval:3600000}")
+    public void purgeExpired() {
+        if (persistent) {
+            int purged = jdbcTemplate.update("DELETE FROM idempotency_keys WHERE created_at < ?",
+                    Timestamp.valueOf(LocalDateTime.now().minus(ttl)));
+            log.debug("Purged {} expired idempotency keys", purged);
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, completed, "idempotency-keys");
+    }
+
+    private void release(String key, CompletableFuture<StoredResponse> future, StoredResponse response) {
+        if (future != null) {
+            inFlight.remove(key, future);
+            future.complete(response);
+        }
+    }
+
+    private Claim claimRow(String key, String fingerprint) {
+        LocalDateTime now = LocalDateTime.now();
+        try {
+            jdbcTemplate.update("INSERT INTO idempotency_keys (id, fingerprint, created_at) VALUES (?, ?, ?)",
+                    key, fingerprint, Timestamp.valueOf(now));
+            return new Claim(State.OWNER, null, null);
+        } catch (DuplicateKeyException e) {
+            // Claimed before, here or on another instance
+        }
+
+        List<StoredResponse> stored = jdbcTemplate.query(
+                "SELECT fingerprint, response_status, content_type, body FROM idempotency_keys " +
+                "WHERE id = ? AND response_status IS NOT NULL",
+                (rs, row) -> new StoredResponse(rs.getString(1), rs.getInt(2), rs.getString(3), rs.getBytes(4)),
+                key);
+        if (!stored.isEmpty()) {
+            completed.put(key, stored.get(0));
+            return new Claim(State.REPLAY, stored.get(0), null);
+        }
+
+        // Take over a claim whose owner has been gone longer than the lock timeout
+        int taken = jdbcTemplate.update(
+                "UPDATE idempotency_keys SET fingerprint = ?, created_at = ? " +
+                "WHERE id = ? AND response_status IS NULL AND created_at < ?",
+                fingerprint, Timestamp.valueOf(now), key, Timestamp.valueOf(now.minus(lockTimeout)));
+        return new Claim(taken == 1 ? State.OWNER : State.IN_PROGRESS, null, null);
+    }
+}
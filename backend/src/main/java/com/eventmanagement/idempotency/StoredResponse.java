@@ -0,0 +1,17 @@
+package com.eventmanagement.idempotency;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * The response of a completed request, replayed to retries with the same Idempotency-Key.
+ */
+@Getter
+@AllArgsConstructor
+public class StoredResponse {
+    // SHA-256 of the request body, to reject a key reused for a different request
+    private final String fingerprint;
+    private final int status;
+    private final String contentType;
+    private final byte[] body;
+}
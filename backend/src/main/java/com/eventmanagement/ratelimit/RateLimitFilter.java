@@ -0,0 +1,141 @@
+package com.eventmanagement.ratelimit;
+
+import com.eventmanagement.config.AuthenticatedUser;
+import com.eventmanagement.dto.ApiResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Per-route token buckets for each authenticated user, or for each client IP when there is no
+ * user (always for login and signup). Every limited response carries the RateLimit-* headers;
+ * an empty bucket answers 429 with Retry-After before the request reaches a controller.
+ *
+ * Runs after JwtAuthenticationFilter so the user is known. Buckets live in a bounded map that
+ * drops idle ones, so scans from many addresses cannot grow it without limit. The client IP is
+ * the remote address; behind a proxy set server.forward-headers-strategy.
+ */
+@Component
+@Slf4j
+public class RateLimitFilter extends OncePerRequestFilter implements MeterBinder {
+
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final RateLimitPolicy login;
+    private final RateLimitPolicy search;
+    private final RateLimitPolicy registration;
+    private final RateLimitPolicy reads;
+    private final Cache<String, TokenBucket> buckets;
+
+    public RateLimitFilter(ObjectMapper objectMapper,
+                           @Value("${rate-limit.enabled:true}") boolean enabled,
+                           @Value("${rate-limit.policies.login:10/1m}") String login,
+                           @Value("${rate-limit.policies.search:60/1m}") String search,
+                           @Value("${rate-limit.policies.registration:30/1m}") String registration,
+                           @Value("${rate-limit.policies.reads:600/1m}") String reads,
+                           @Value("${rate-limit.max-buckets:100000}") long maxBuckets,
+                           @Value("${rate-limit.idle-timeout:10m}") Duration idleTimeout) {
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        this.login = RateLimitPolicy.parse("login", login, true);
+        this.search = RateLimitPolicy.parse("search", search, false);
+        this.registration = RateLimitPolicy.parse("registration", registration, false);
+        this.reads = RateLimitPolicy.parse("reads", reads, false);
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(maxBuckets)
+                .expireAfterAccess(idleTimeout)
+                .build();
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled || policyFor(request) == null;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        RateLimitPolicy policy = policyFor(request);
+        Long userId = AuthenticatedUser.currentUserId();
+        String key = policy.getName() + "|" + (policy.isPerIp() || userId == null
+                ? "ip:" + request.getRemoteAddr()
+                : "user:" + userId);
+
+        long now = System.nanoTime();
+        TokenBucket bucket = buckets.get(key, k -> policy.newBucket(now));
+        long wait = bucket.tryConsume(now);
+
+        response.setHeader("RateLimit-Policy", policy.describe());
+        response.setHeader("RateLimit-Limit", Integer.toString(policy.getLimit()));
+        response.setHeader("RateLimit-Remaining", Integer.toString(bucket.remaining(now)));
+        response.setHeader("RateLimit-Reset", Long.toString(toSeconds(bucket.resetNanos(now))));
+
+        if (wait > 0) {
+            policy.getRejected().incrementAndGet();
+            log.debug("Rate limit {} exceeded for {}", policy.getName(), key);
+            response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(Math.max(1, toSeconds(wait))));
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            objectMapper.writeValue(response.getOutputStream(), ApiResponse.builder()
+                    .success(false)
+                    .message("Too many requests, please retry later")
+                    .data(null)
+                    .build());
+            return;
+        }
+        filterChain.doFilter(request, response);
+    }
+
+    private RateLimitPolicy policyFor(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        String method = request.getMethod();
+        if ("POST".equals(method) && (path.equals("/auth/login") || path.equals("/auth/signup"))) {
+            return login;
+        }
+        if (path.startsWith("/registrations/") && !"GET".equals(method)) {
+            return registration;
+        }
+        if ("GET".equals(method)) {
+            return path.equals("/events/search") ? search : reads;
+        }
+        return null;
+    }
+
+    private static long toSeconds(long nanos) {
+        return (nanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("rate-limit.buckets", buckets, Cache::estimatedSize)
+                .description("Token buckets currently tracked")
+                .register(registry);
+        for (RateLimitPolicy policy : List.of(login, search, registration, reads)) {
+            FunctionCounter.builder("rate-limit.rejected", policy.getRejected(), AtomicLong::get)
+                    .description("Requests answered 429 by the rate limiter")
+                    .tag("policy", policy.getName())
+                    .register(registry);
+        }
+    }
+}
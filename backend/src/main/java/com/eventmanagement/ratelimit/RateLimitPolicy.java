@@ -0,0 +1,49 @@
+package com.eventmanagement.ratelimit;
+
+import lombok.Getter;
+import org.springframework.boot.convert.DurationStyle;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A limit of {@code limit} requests per {@code window}, with bursts up to the full limit.
+ * Written as {@code <limit>/<window>} in configuration, e.g. {@code 10/1m}.
+ */
+@Getter
+class RateLimitPolicy {
+
+    private final String name;
+    private final int limit;
+    private final Duration window;
+    // Buckets are per IP only, e.g. for login where there is no user yet
+    private final boolean perIp;
+    private final AtomicLong rejected = new AtomicLong();
+
+    RateLimitPolicy(String name, int limit, Duration window, boolean perIp) {
+        if (limit < 1 || window.isZero() || window.isNegative()) {
+            throw new IllegalArgumentException("Invalid rate limit for " + name + ": " + limit + "/" + window);
+        }
+        this.name = name;
+        this.limit = limit;
+        this.window = window;
+        this.perIp = perIp;
+    }
+
+    static RateLimitPolicy parse(String name, String spec, boolean perIp) {
+        String[] parts = spec.trim().split("/");
+        if (parts.length != 2) {
+            throw new IllegalArgumentException("Rate limit for " + name + " must look like 10/1m, got: " + spec);
+        }
+        return new RateLimitPolicy(name, Integer.parseInt(parts[0].trim()), DurationStyle.detectAndParse(parts[1].trim()), perIp);
+    }
+
+    TokenBucket newBucket(long now) {
+        return new TokenBucket(limit, window.toNanos(), now);
+    }
+
+    // RateLimit-Policy header value
+    String describe() {
+        return limit + ";w=" + window.toSeconds();
+    }
+}
@@ -0,0 +1,48 @@
+package com.eventmanagement.ratelimit;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free token bucket kept as a single theoretical arrival time (the GCRA form of a token
+ * bucket): each request pushes it one emission interval into the future, and a request is
+ * allowed while it stays within the burst window of now. One CAS per request, no timers.
+ */
+class TokenBucket {
+
+    private final long intervalNanos;
+    private final long burstNanos;
+    private final AtomicLong arrival;
+
+    TokenBucket(int capacity, long windowNanos, long now) {
+        this.intervalNanos = Math.max(1, windowNanos / capacity);
+        this.burstNanos = intervalNanos * capacity;
+        this.arrival = new AtomicLong(now);
+    }
+
+    /**
+     * Takes a token. Returns 0 when one was available, otherwise the nanos until the next one.
+     */
+    long tryConsume(long now) {
+        while (true) {
+            long current = arrival.get();
+            long next = Math.max(current, now) + intervalNanos;
+            long wait = next - burstNanos - now;
+            if (wait > 0) {
+                return wait;
+            }
+            if (arrival.compareAndSet(current, next)) {
+                return 0;
+            }
+        }
+    }
+
+    int remaining(long now) {
+        long used = Math.max(0, arrival.get() - now);
+        return (int) Math.max(0, (burstNanos - used) / intervalNanos);
+    }
+
+    // Until the bucket is full again
+    long resetNanos(long now) {
+        return Math.max(0, arrival.get() - now);
+    }
+}
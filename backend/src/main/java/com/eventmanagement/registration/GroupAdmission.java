@@ -0,0 +1,18 @@
+package com.eventmanagement.registration;
+
+import com.eventmanagement.entity.User;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * How {@link SeatReservationEngine#registerGroup} placed each user of a group.
+ */
+@Getter
+@AllArgsConstructor
+public class GroupAdmission {
+    private final List<User> admitted;
+    private final List<User> alreadyRegistered;
+    private final List<User> rejected;
+}
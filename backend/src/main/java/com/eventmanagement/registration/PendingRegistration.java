@@ -0,0 +1,67 @@
+package com.eventmanagement.registration;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A seat admitted in memory whose row has not been written yet. The state decides a race
+ * between the writer picking it up and the user cancelling it: whoever moves it off QUEUED wins.
+ * The outcome completes once the row is committed, or once it is cancelled or fails to write.
+ */
+@Getter
+public class PendingRegistration {
+
+    private static final int QUEUED = 0;
+    private static final int WRITING = 1;
+    private static final int CANCELLED = 2;
+
+    private final Long eventId;
+    private final Long userId;
+    private final String email;
+    private final String firstName;
+    private final String eventTitle;
+    private final LocalDateTime registeredAt = LocalDateTime.now();
+    private final AtomicInteger state = new AtomicInteger(QUEUED);
+    @Getter(AccessLevel.NONE)
+    private final CompletableFuture<Boolean> outcome = new CompletableFuture<>();
+
+    public PendingRegistration(Long eventId, Long userId, String email, String firstName, String eventTitle) {
+        this.eventId = eventId;
+        this.userId = userId;
+        this.email = email;
+        this.firstName = firstName;
+        this.eventTitle = eventTitle;
+    }
+
+    boolean startWriting() {
+        return state.compareAndSet(QUEUED, WRITING);
+    }
+
+    boolean cancel() {
+        if (!state.compareAndSet(QUEUED, CANCELLED)) {
+            return false;
+        }
+        outcome.complete(false);
+        return true;
+    }
+
+    boolean isCancelled() {
+        return state.get() == CANCELLED;
+    }
+
+    // Only the first call counts
+    void finish(boolean written) {
+        outcome.complete(written);
+    }
+
+    /**
+     * Blocks until the outcome is known and returns whether the row was committed.
+     */
+    boolean awaitWritten() {
+        return outcome.join();
+    }
+}
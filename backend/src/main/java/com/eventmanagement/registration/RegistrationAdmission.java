@@ -0,0 +1,194 @@
+package com.eventmanagement.registration;
+
+import com.eventmanagement.exception.TooManyRequestsException;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Admission control for registration requests. Each event lets a few requests run at once
+ * and a bounded number wait in FIFO order; beyond that, or after waiting too long, requests
+ * are turned away at once with a retry hint. A global limit keeps several hot events from
+ * taking every pooled connection together, so the rest of the API stays responsive.
+ *
+ * Unless configured, the global limit is the connection pool size less a few connections kept
+ * for everything else. Without the seat engine, registrations for one event queue on its row
+ * lock, so the per-event limit stays at two: more only hold connections while they wait. The
+ * seat engine takes no row lock and writes concurrent registrations in one batch, so with it an
+ * event may use the whole global limit.
+ *
+ * Gates exist only while an event has requests in flight.
+ */
+@Component
+@Slf4j
+public class RegistrationAdmission implements MeterBinder {
+
+    // Connections left to the rest of the API, and to the seat engine's batch writes
+    private static final int RESERVED_CONNECTIONS = 4;
+    private static final int ROW_LOCK_CONCURRENCY = 2;
+
+    private final int maxConcurrentPerEvent;
+    private final int maxQueuedPerEvent;
+    private final long queueTimeoutNanos;
+    private final long retryAfterSeconds;
+    private final Semaphore global;
+
+    private final Map<Long, Gate> gates = new ConcurrentHashMap<>();
+    private final AtomicInteger queued = new AtomicInteger();
+    private final AtomicInteger active = new AtomicInteger();
+    private final AtomicLong rejectedQueueFull = new AtomicLong();
+    private final AtomicLong rejectedTimeout = new AtomicLong();
+
+    @Autowired
+    public RegistrationAdmission(@Value("${registration.admission.max-concurrent-per-event:0}") int maxConcurrentPerEvent,
+                                 @Value("${registration.admission.max-queued-per-event:50}") int maxQueuedPerEvent,
+                                 @Value("${registration.admission.max-concurrent:0}") int maxConcurrent,
+                                 @Value("${registration.admission.queue-timeout:2s}") Duration queueTimeout,
+                                 @Value("${registration.admission.retry-after:1s}") Duration retryAfter,
+                                 @Value("${spring.datasource.hikari.maximum-pool-size:10}") int poolSize,
+                                 @Value("${registration.seat-engine.enabled:false}") boolean seatEngineEnabled) {
+        this(perEventLimit(maxConcurrentPerEvent, globalLimit(maxConcurrent, poolSize), seatEngineEnabled),
+                maxQueuedPerEvent, globalLimit(maxConcurrent, poolSize), queueTimeout, retryAfter);
+        log.info("Registration admission: {} concurrent per event, {} in total",
+                this.maxConcurrentPerEvent, globalLimit(maxConcurrent, poolSize));
+    }
+
+    RegistrationAdmission(int maxConcurrentPerEvent, int maxQueuedPerEvent, int maxConcurrent,
+                          Duration queueTimeout, Duration retryAfter) {
+        this.maxConcurrentPerEvent = maxConcurrentPerEvent;
+        this.maxQueuedPerEvent = maxQueuedPerEvent;
+        this.queueTimeoutNanos = queueTimeout.toNanos();
+        this.retryAfterSeconds = Math.max(1, retryAfter.toSeconds());
+        this.global = new Semaphore(maxConcurrent, true);
+    }
+
+    public <T> T admit(Long eventId, Supplier<T> work) {
+        Gate gate = enter(eventId);
+        if (gate == null) {
+            rejectedQueueFull.incrementAndGet();
+            throw new TooManyRequestsException("Too many registration requests for this event, please retry", retryAfterSeconds);
+        }
+        try {
+            if (!acquire(gate)) {
+                rejectedTimeout.incrementAndGet();
+                throw new TooManyRequestsException("Registration is busy, please retry", retryAfterSeconds);
+            }
+            active.incrementAndGet();
+            try {
+                return work.get();
+            } finally {
+                active.decrementAndGet();
+                global.release();
+                gate.permits.release();
+            }
+        } finally {
+            leave(eventId);
+        }
+    }
+
+    public void admit(Long eventId, Runnable work) {
+        admit(eventId, () -> {
+            work.run();
+            return null;
+        });
+    }
+
+    // Non-positive settings are derived from the pool and the seat engine
+    private static int globalLimit(int configured, int poolSize) {
+        return configured > 0 ? configured : Math.max(1, poolSize - RESERVED_CONNECTIONS);
+    }
+
+    private static int perEventLimit(int configured, int globalLimit, boolean seatEngineEnabled) {
+        if (configured > 0) {
+            return configured;
+        }
+        return seatEngineEnabled ? globalLimit : Math.min(ROW_LOCK_CONCURRENCY, globalLimit);
+    }
+
+    int trackedEvents() {
+        return gates.size();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("registration.admission.queued", queued, AtomicInteger::get)
+                .description("Registration requests waiting for their event's gate")
+                .register(registry);
+        Gauge.builder("registration.admission.active", active, AtomicInteger::get)
+                .description("Registration requests running")
+                .register(registry);
+        FunctionCounter.builder("registration.admission.rejected", rejectedQueueFull, AtomicLong::get)
+                .tag("reason", "queue_full")
+                .register(registry);
+        FunctionCounter.builder("registration.admission.rejected", rejectedTimeout, AtomicLong::get)
+                .tag("reason", "timeout")
+                .register(registry);
+    }
+
+    // Counts the request against the event's gate, or returns null when the queue is full
+    private Gate enter(Long eventId) {
+        Gate[] admitted = new Gate[1];
+        gates.compute(eventId, (id, gate) -> {
+            if (gate == null) {
+                gate = new Gate(maxConcurrentPerEvent);
+            }
+            if (gate.users < maxConcurrentPerEvent + maxQueuedPerEvent) {
+                gate.users++;
+                admitted[0] = gate;
+            }
+            return gate;
+        });
+        return admitted[0];
+    }
+
+    private void leave(Long eventId) {
+        gates.computeIfPresent(eventId, (id, gate) -> --gate.users == 0 ? null : gate);
+    }
+
+    private boolean acquire(Gate gate) {
+        long deadline = System.nanoTime() + queueTimeoutNanos;
+        boolean gateAcquired = false;
+        queued.incrementAndGet();
+        try {
+            if (!gate.permits.tryAcquire(queueTimeoutNanos, TimeUnit.NANOSECONDS)) {
+                return false;
+            }
+            gateAcquired = true;
+            if (global.tryAcquire(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS)) {
+                return true;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            queued.decrementAndGet();
+        }
+        if (gateAcquired) {
+            gate.permits.release();
+        }
+        return false;
+    }
+
+    private static final class Gate {
+        private final Semaphore permits;
+        // Running plus waiting requests; only changed inside gates.compute
+        private int users;
+
+        Gate(int permits) {
+            this.permits = new Semaphore(permits, true);
+        }
+    }
+}
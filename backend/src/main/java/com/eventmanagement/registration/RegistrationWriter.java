@@ -0,0 +1,108 @@
+package com.eventmanagement.registration;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Persists admitted registrations for {@link SeatReservationEngine}. Each batch is one
+ * transaction: reactivate cancelled or waitlisted rows, insert the rest and add the per-event totals to
+ * registered_count, so the rows and the counts commit together.
+ *
+ * Batches are written by whichever request flushes them, so each runs in a transaction of its
+ * own rather than joining that request's.
+ */
+@Component
+@ConditionalOnProperty(name = "registration.seat-engine.enabled", havingValue = "true")
+@Slf4j
+public class RegistrationWriter {
+
+    private static final String REACTIVATE_SQL =
+            "UPDATE event_registrations SET status = 'REGISTERED', registered_at = ? " +
+            "WHERE event_id = ? AND user_id = ? AND status IN ('CANCELLED', 'WAITLISTED')";
+
+    private static final String INSERT_SQL =
+            "INSERT INTO event_registrations (event_id, user_id, status, registered_at) VALUES (?, ?, 'REGISTERED', ?)";
+
+    private static final String COUNT_SQL =
+            "UPDATE events SET registered_count = registered_count + ?, updated_at = CURRENT_TIMESTAMP WHERE id = ?";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final TransactionTemplate transactionTemplate;
+
+    public RegistrationWriter(PlatformTransactionManager transactionManager) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * Writes the batch and returns the registrations that could not be persisted. A failed
+     * batch is retried row by row so one bad row does not take the others down with it.
+     */
+    public List<PendingRegistration> write(List<PendingRegistration> batch) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> writeBatch(batch));
+            return List.of();
+        } catch (DataAccessException e) {
+            log.warn("Writing {} registrations failed, retrying one at a time", batch.size(), e);
+        }
+
+        List<PendingRegistration> failed = new ArrayList<>();
+        for (PendingRegistration registration : batch) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> writeBatch(List.of(registration)));
+            } catch (DataAccessException e) {
+                log.error("Could not persist registration of user {} for event {}",
+                        registration.getUserId(), registration.getEventId(), e);
+                failed.add(registration);
+            }
+        }
+        return failed;
+    }
+
+    private void writeBatch(List<PendingRegistration> batch) {
+        int[][] reactivated = jdbcTemplate.batchUpdate(REACTIVATE_SQL, batch, batch.size(), (ps, r) -> {
+            ps.setTimestamp(1, Timestamp.valueOf(r.getRegisteredAt()));
+            ps.setLong(2, r.getEventId());
+            ps.setLong(3, r.getUserId());
+        });
+
+        List<PendingRegistration> inserts = new ArrayList<>();
+        for (int i = 0; i < batch.size(); i++) {
+            if (reactivated[0][i] == 0) {
+                inserts.add(batch.get(i));
+            }
+        }
+        if (!inserts.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_SQL, inserts, inserts.size(), (ps, r) -> {
+                ps.setLong(1, r.getEventId());
+                ps.setLong(2, r.getUserId());
+                ps.setTimestamp(3, Timestamp.valueOf(r.getRegisteredAt()));
+            });
+        }
+
+        Map<Long, Integer> seatsByEvent = new LinkedHashMap<>();
+        for (PendingRegistration registration : batch) {
+            seatsByEvent.merge(registration.getEventId(), 1, Integer::sum);
+        }
+        List<Map.Entry<Long, Integer>> counts = new ArrayList<>(seatsByEvent.entrySet());
+        jdbcTemplate.batchUpdate(COUNT_SQL, counts, counts.size(), (ps, entry) -> {
+            ps.setInt(1, entry.getValue());
+            ps.setLong(2, entry.getKey());
+        });
+    }
+}
@@ -0,0 +1,70 @@
+package com.eventmanagement.registration;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * Remaining seats of one event, split across stripes so concurrent acquires mostly CAS
+ * different cache lines. A thread starts at its home stripe and moves on when that one is
+ * empty, so an acquire only fails once every stripe is at zero.
+ */
+public class SeatCounter {
+
+    // Ints per stripe, so each stripe sits on its own 64-byte cache line
+    private static final int PAD = 16;
+
+    private final int stripes;
+    private final AtomicIntegerArray counts;
+
+    public SeatCounter(int seats, int stripes) {
+        this.stripes = Math.max(1, stripes);
+        this.counts = new AtomicIntegerArray(this.stripes * PAD);
+        int free = Math.max(0, seats);
+        for (int i = 0; i < this.stripes; i++) {
+            counts.set(i * PAD, free / this.stripes + (i < free % this.stripes ? 1 : 0));
+        }
+    }
+
+    public boolean tryAcquire() {
+        int home = home();
+        for (int i = 0; i < stripes; i++) {
+            int slot = ((home + i) % stripes) * PAD;
+            int current;
+            while ((current = counts.get(slot)) > 0) {
+                if (counts.compareAndSet(slot, current, current - 1)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    public void release() {
+        counts.incrementAndGet(home() * PAD);
+    }
+
+    /**
+     * Adds seats, or takes away as many as are still free when negative. Seats already held
+     * are never revoked, so shrinking below the held count leaves the event full.
+     */
+    public void adjust(int seats) {
+        if (seats >= 0) {
+            counts.addAndGet(home() * PAD, seats);
+            return;
+        }
+        for (int i = 0; i < -seats && tryAcquire(); i++) {
+            // Taken
+        }
+    }
+
+    public int remaining() {
+        int total = 0;
+        for (int i = 0; i < stripes; i++) {
+            total += counts.get(i * PAD);
+        }
+        return total;
+    }
+
+    private int home() {
+        return (int) (Thread.currentThread().getId() % stripes);
+    }
+}
@@ -0,0 +1,418 @@
+package com.eventmanagement.registration;
+
+import com.eventmanagement.catalog.CatalogChangeEvent;
+import com.eventmanagement.catalog.RegistrationChangeEvent;
+import com.eventmanagement.entity.Event;
+import com.eventmanagement.entity.User;
+import com.eventmanagement.exception.BadRequestException;
+import com.eventmanagement.exception.ResourceNotFoundException;
+import com.eventmanagement.exception.ServiceUnavailableException;
+import com.eventmanagement.repository.EventRegistrationRepository;
+import com.eventmanagement.repository.EventRepository;
+import com.eventmanagement.service.EmailService;
+import com.eventmanagement.service.WaitlistService;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Admits registrations against in-memory seat counters and persists them in batches, so a
+ * registration rush no longer queues on the events row lock.
+ *
+ * Each event's counters are loaded from event_registrations on first use. An admitted seat is
+ * only acknowledged once {@link RegistrationWriter} has committed its row: the request flushes
+ * its event's queue itself, and requests that arrive while a batch is being written are written
+ * together in the next one. Each event has its own queue and flush lock, so writes for different
+ * events never wait on each other. A crash therefore loses no acknowledged registration, and registered_count is
+ * recomputed from event_registrations on startup for seats admitted but never written. The
+ * counters are local to this process, so the engine must only be enabled on a single instance.
+ *
+ * Seats freed by a cancellation or a capacity increase are offered to the event's waitlist
+ * before they go back to the counter.
+ */
+@Component
+@ConditionalOnProperty(name = "registration.seat-engine.enabled", havingValue = "true")
+@Slf4j
+public class SeatReservationEngine implements MeterBinder {
+
+    private static final String RECONCILE_SQL =
+            "UPDATE events e SET registered_count = (" +
+            "SELECT COUNT(*) FROM event_registrations r WHERE r.event_id = e.id AND r.status IN ('REGISTERED', 'ATTENDED')), " +
+            "updated_at = CURRENT_TIMESTAMP " +
+            "WHERE registered_count <> (" +
+            "SELECT COUNT(*) FROM event_registrations r WHERE r.event_id = e.id AND r.status IN ('REGISTERED', 'ATTENDED'))";
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private EventRegistrationRepository registrationRepository;
+
+    @Autowired
+    private RegistrationWriter writer;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private EmailService emailService;
+
+    @Autowired
+    private WaitlistService waitlistService;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    private final int stripes;
+    private final int batchSize;
+    private final int queueCapacity;
+    private final Map<Long, EventSeats> seats = new ConcurrentHashMap<>();
+    private final Map<String, PendingRegistration> pending = new ConcurrentHashMap<>();
+    // Notifications for a batch go out when it is written, not with the flushing request's transaction
+    private final TransactionTemplate notifications;
+
+    public SeatReservationEngine(PlatformTransactionManager transactionManager,
+                                 @Value("${registration.seat-engine.stripes:8}") int stripes,
+                                 @Value("${registration.seat-engine.queue-capacity:100000}") int queueCapacity,
+                                 @Value("${registration.seat-engine.batch-size:500}") int batchSize) {
+        this.stripes = stripes;
+        this.batchSize = batchSize;
+        this.queueCapacity = queueCapacity;
+        this.notifications = new TransactionTemplate(transactionManager);
+        this.notifications.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void reconcile() {
+        int corrected = jdbcTemplate.update(RECONCILE_SQL);
+        if (corrected > 0) {
+            entityManagerFactory.getCache().evict(Event.class);
+            log.warn("Corrected registered_count of {} events from event_registrations", corrected);
+        }
+    }
+
+    /**
+     * Takes a seat for the user, or returns false when the event is full. Returns once the
+     * registration is committed.
+     */
+    public boolean register(Long eventId, User user) {
+        EventSeats event = seats.computeIfAbsent(eventId, this::load);
+        if (!event.holders.add(user.getId())) {
+            throw new BadRequestException("User already registered for this event");
+        }
+        if (!event.counter.tryAcquire()) {
+            event.holders.remove(user.getId());
+            return false;
+        }
+
+        String key = key(eventId, user.getId());
+        PendingRegistration registration = new PendingRegistration(
+                eventId, user.getId(), user.getEmail(), user.getFirstName(), event.title);
+        pending.put(key, registration);
+        if (!event.queue.offer(registration)) {
+            pending.remove(key);
+            release(eventId, user.getId());
+            throw new BadRequestException("Too many registrations in progress, please retry");
+        }
+
+        flush(event);
+        if (!registration.awaitWritten()) {
+            if (registration.isCancelled()) {
+                throw new BadRequestException("Registration was cancelled");
+            }
+            throw new ServiceUnavailableException("Could not save the registration, please retry", 1);
+        }
+        log.debug("User {} registered for event {}", user.getId(), eventId);
+        return true;
+    }
+
+    /**
+     * Takes seats for a group in request order. With {@code allOrNothing}, a group that does
+     * not fit is rejected as a whole and every seat taken for it is given back. Returns once the
+     * admitted registrations are committed; rows that fail to write fail the call, and a retry
+     * finds the ones that were written already registered.
+     */
+    public GroupAdmission registerGroup(Long eventId, List<User> users, boolean allOrNothing) {
+        EventSeats event = seats.computeIfAbsent(eventId, this::load);
+        List<User> admitted = new ArrayList<>();
+        List<User> alreadyRegistered = new ArrayList<>();
+        List<User> rejected = new ArrayList<>();
+        for (User user : users) {
+            if (!event.holders.add(user.getId())) {
+                alreadyRegistered.add(user);
+            } else if (event.counter.tryAcquire()) {
+                admitted.add(user);
+            } else {
+                event.holders.remove(user.getId());
+                rejected.add(user);
+            }
+        }
+        if (allOrNothing && !rejected.isEmpty()) {
+            for (User user : admitted) {
+                release(eventId, user.getId());
+            }
+            rejected.addAll(0, admitted);
+            return new GroupAdmission(List.of(), alreadyRegistered, rejected);
+        }
+
+        Map<User, PendingRegistration> queued = new LinkedHashMap<>();
+        for (User user : admitted) {
+            PendingRegistration registration = new PendingRegistration(
+                    eventId, user.getId(), user.getEmail(), user.getFirstName(), event.title);
+            pending.put(key(eventId, user.getId()), registration);
+            if (event.queue.offer(registration)) {
+                queued.put(user, registration);
+            } else {
+                pending.remove(key(eventId, user.getId()));
+                release(eventId, user.getId());
+                rejected.add(user);
+            }
+        }
+
+        flush(event);
+        List<User> written = new ArrayList<>(queued.size());
+        int failed = 0;
+        for (Map.Entry<User, PendingRegistration> entry : queued.entrySet()) {
+            if (entry.getValue().awaitWritten()) {
+                written.add(entry.getKey());
+            } else if (!entry.getValue().isCancelled()) {
+                failed++;
+            }
+        }
+        if (failed > 0) {
+            throw new ServiceUnavailableException("Could not save " + failed + " registrations, please retry", 1);
+        }
+        log.debug("Registered {} of {} users for event {}", written.size(), users.size(), eventId);
+        return new GroupAdmission(written, alreadyRegistered, rejected);
+    }
+
+    /**
+     * Cancels a registration that has not been written yet. Returns false when there is none,
+     * after waiting for a batch that is writing it, so the caller can cancel the stored row.
+     */
+    public boolean cancelPending(Long eventId, Long userId) {
+        String key = key(eventId, userId);
+        PendingRegistration registration = pending.get(key);
+        if (registration == null) {
+            return false;
+        }
+        if (registration.cancel()) {
+            pending.remove(key);
+            freeSeat(eventId, userId);
+            return true;
+        }
+        EventSeats event = seats.get(eventId);
+        if (event != null) {
+            event.flushLock.lock();
+            event.flushLock.unlock();
+        }
+        return false;
+    }
+
+    public void flush() {
+        seats.values().forEach(this::flush);
+    }
+
+    /**
+     * Writes everything queued for the event so far. A caller that finds another flush of it
+     * running waits for that one and then writes what queued up in the meantime, so its own
+     * registration is always settled on return.
+     */
+    private void flush(EventSeats event) {
+        event.flushLock.lock();
+        try {
+            List<PendingRegistration> batch = new ArrayList<>(batchSize);
+            while (event.queue.drainTo(batch, batchSize) > 0) {
+                batch.removeIf(registration -> !registration.startWriting());
+                try {
+                    if (!batch.isEmpty()) {
+                        write(batch);
+                    }
+                } finally {
+                    // Settles whatever write() did not get to, so no caller waits forever
+                    batch.forEach(registration -> registration.finish(false));
+                }
+                batch.clear();
+            }
+        } finally {
+            event.flushLock.unlock();
+        }
+    }
+
+    @PreDestroy
+    void drain() {
+        flush();
+    }
+
+    // Stored registrations cancelled through the database path give their seat back here
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRegistrationChange(RegistrationChangeEvent change) {
+        if (!change.isRegistered()) {
+            freeSeat(change.getEventId(), change.getUserId());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogChange(CatalogChangeEvent change) {
+        if (change.getType() == CatalogChangeEvent.ChangeType.DELETED) {
+            seats.remove(change.getEventId());
+        } else if (change.getType() == CatalogChangeEvent.ChangeType.UPDATED) {
+            EventSeats event = seats.get(change.getEventId());
+            if (event == null) {
+                return;
+            }
+            eventRepository.findById(change.getEventId()).ifPresent(updated -> {
+                int added = event.resize(updated.getCapacity());
+                if (added > 0) {
+                    handOver(change.getEventId(), event, added);
+                } else {
+                    event.counter.adjust(added);
+                }
+            });
+        }
+    }
+
+    public int remainingSeats(Long eventId) {
+        EventSeats event = seats.get(eventId);
+        return event != null ? event.counter.remaining() : -1;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("registration.seat-engine.pending", pending, Map::size)
+                .description("Admitted registrations not yet written to the database")
+                .register(registry);
+    }
+
+    private void write(List<PendingRegistration> batch) {
+        List<PendingRegistration> failed;
+        try {
+            failed = writer.write(batch);
+        } catch (RuntimeException e) {
+            log.error("Could not persist {} registrations", batch.size(), e);
+            failed = batch;
+        }
+        Map<Long, List<PendingRegistration>> written = new LinkedHashMap<>();
+        for (PendingRegistration registration : batch) {
+            pending.remove(key(registration.getEventId(), registration.getUserId()));
+            if (failed.contains(registration)) {
+                release(registration.getEventId(), registration.getUserId());
+                registration.finish(false);
+                continue;
+            }
+            registration.finish(true);
+            written.computeIfAbsent(registration.getEventId(), id -> new ArrayList<>()).add(registration);
+        }
+        // registered_count was written with plain JDBC, behind the second-level cache
+        written.keySet().forEach(eventId -> entityManagerFactory.getCache().evict(Event.class, eventId));
+        if (!written.isEmpty()) {
+            notifications.executeWithoutResult(status -> publish(written));
+        }
+        log.debug("Wrote {} registrations for {} events", batch.size() - failed.size(), written.size());
+    }
+
+    private void publish(Map<Long, List<PendingRegistration>> written) {
+        written.forEach((eventId, registrations) -> {
+            registrations.forEach(r -> eventPublisher.publishEvent(
+                    new RegistrationChangeEvent(r.getUserId(), eventId, true)));
+            eventPublisher.publishEvent(new CatalogChangeEvent(eventId, CatalogChangeEvent.ChangeType.REGISTRATIONS));
+            Map<String, String> recipients = new LinkedHashMap<>();
+            registrations.forEach(r -> recipients.put(r.getEmail(), r.getFirstName()));
+            emailService.sendRegistrationConfirmations(recipients, registrations.get(0).getEventTitle());
+        });
+    }
+
+    private void freeSeat(Long eventId, Long userId) {
+        EventSeats event = seats.get(eventId);
+        if (event != null && event.holders.remove(userId)) {
+            handOver(eventId, event, 1);
+        }
+    }
+
+    // Freed seats go to the waitlist first; only what it cannot use returns to the counter
+    private void handOver(Long eventId, EventSeats event, int freed) {
+        List<Long> promoted = List.of();
+        try {
+            promoted = waitlistService.promote(eventId, freed);
+        } catch (DataAccessException e) {
+            log.error("Could not promote the waitlist of event {}", eventId, e);
+        }
+        event.holders.addAll(promoted);
+        event.counter.adjust(freed - promoted.size());
+    }
+
+    private void release(Long eventId, Long userId) {
+        EventSeats event = seats.get(eventId);
+        if (event != null && event.holders.remove(userId)) {
+            event.counter.release();
+        }
+    }
+
+    private EventSeats load(Long eventId) {
+        // A deleted event keeps its row, but must not take registrations again
+        Event event = eventRepository.findById(eventId)
+                .filter(e -> Boolean.TRUE.equals(e.getIsActive()))
+                .orElseThrow(() -> new ResourceNotFoundException("Event not found"));
+        Set<Long> holders = ConcurrentHashMap.newKeySet();
+        holders.addAll(registrationRepository.findActiveUserIdsByEventId(eventId));
+        return new EventSeats(event.getTitle(), event.getCapacity(),
+                new SeatCounter(event.getCapacity() - holders.size(), stripes), holders, queueCapacity);
+    }
+
+    private static String key(Long eventId, Long userId) {
+        return eventId + ":" + userId;
+    }
+
+    private static final class EventSeats {
+        private final String title;
+        private final SeatCounter counter;
+        private final Set<Long> holders;
+        private final BlockingQueue<PendingRegistration> queue;
+        private final ReentrantLock flushLock = new ReentrantLock();
+        private int capacity;
+
+        EventSeats(String title, int capacity, SeatCounter counter, Set<Long> holders, int queueCapacity) {
+            this.title = title;
+            this.capacity = capacity;
+            this.counter = counter;
+            this.holders = holders;
+            this.queue = new LinkedBlockingQueue<>(queueCapacity);
+        }
+
+        // Returns the change in seats for the caller to apply
+        synchronized int resize(int newCapacity) {
+            int delta = newCapacity - capacity;
+            capacity = newCapacity;
+            return delta;
+        }
+    }
+}
@@ -4,8 +4,11 @@ import com.eventmanagement.entity.EventAttendance;
 import com.eventmanagement.entity.Event;
 import com.eventmanagement.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.Optional;
 import java.util.List;
 
@@ -15,4 +18,7 @@ public interface EventAttendanceRepository extends JpaRepository<EventAttendance
     List<EventAttendance> findByEvent(Event event);
     List<EventAttendance> findByUser(User user);
     Long countByEvent(Event event);
+
+    @Query("SELECT a.user.id FROM EventAttendance a WHERE a.event.id = :eventId AND a.user.id IN :userIds")
+    List<Long> findUserIdsByEventIdAndUserIdIn(@Param("eventId") Long eventId, @Param("userIds") Collection<Long> userIds);
 }
@@ -1,12 +1,22 @@
 package com.eventmanagement.repository;
 
+import com.eventmanagement.dto.AttendeeDTO;
+import com.eventmanagement.dto.RegistrationDTO;
 import com.eventmanagement.entity.EventRegistration;
 import com.eventmanagement.entity.Event;
 import com.eventmanagement.entity.User;
 import com.eventmanagement.entity.RegistrationStatus;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import jakarta.persistence.LockModeType;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.Optional;
 import java.util.List;
 
@@ -18,4 +28,73 @@ public interface EventRegistrationRepository extends JpaRepository<EventRegistra
     List<EventRegistration> findByEventAndStatus(Event event, RegistrationStatus status);
     List<EventRegistration> findByUserAndStatus(User user, RegistrationStatus status);
     Long countByEventAndStatus(Event event, RegistrationStatus status);
+
+    @Query("SELECT r.event.id FROM EventRegistration r WHERE r.user.id = :userId " +
+           "AND r.status IN (com.eventmanagement.entity.RegistrationStatus.REGISTERED, com.eventmanagement.entity.RegistrationStatus.ATTENDED)")
+    List<Long> findActiveRegisteredEventIds(@Param("userId") Long userId);
+
+    @Query("SELECT r.user.id FROM EventRegistration r WHERE r.event.id = :eventId " +
+           "AND r.status IN (com.eventmanagement.entity.RegistrationStatus.REGISTERED, com.eventmanagement.entity.RegistrationStatus.ATTENDED)")
+    List<Long> findActiveUserIdsByEventId(@Param("eventId") Long eventId);
+
+    // Compare-and-set on the status, so two concurrent requests cannot both make the same transition
+    @Modifying
+    @Query("UPDATE EventRegistration r SET r.status = :to WHERE r.id = :id AND r.status IN :from")
+    int updateStatus(@Param("id") Long id,
+                     @Param("from") Collection<RegistrationStatus> from,
+                     @Param("to") RegistrationStatus to);
+
+    Optional<EventRegistration> findByEventIdAndUserId(Long eventId, Long userId);
+    List<EventRegistration> findByEventIdAndUserIdIn(Long eventId, Collection<Long> userIds);
+
+    @Modifying
+    @Query("UPDATE EventRegistration r SET r.status = com.eventmanagement.entity.RegistrationStatus.REGISTERED " +
+           "WHERE r.id IN :ids AND r.status IN (com.eventmanagement.entity.RegistrationStatus.CANCELLED, " +
+           "com.eventmanagement.entity.RegistrationStatus.WAITLISTED)")
+    int reactivate(@Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Query("UPDATE EventRegistration r SET r.status = com.eventmanagement.entity.RegistrationStatus.WAITLISTED, " +
+           "r.waitlistedAt = :now WHERE r.id = :id AND r.status = com.eventmanagement.entity.RegistrationStatus.CANCELLED")
+    int rejoinWaitlist(@Param("id") Long id, @Param("now") LocalDateTime now);
+
+    // Head of the waitlist, read off idx_registrations_waitlist; the row locks keep two
+    // promoters from handing out the same entries
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT r FROM EventRegistration r WHERE r.event.id = :eventId " +
+           "AND r.status = com.eventmanagement.entity.RegistrationStatus.WAITLISTED ORDER BY r.waitlistedAt, r.id")
+    List<EventRegistration> findWaitlistHead(@Param("eventId") Long eventId, Pageable pageable);
+
+    @Modifying
+    @Query("UPDATE EventRegistration r SET r.status = com.eventmanagement.entity.RegistrationStatus.REGISTERED " +
+           "WHERE r.id IN :ids AND r.status = com.eventmanagement.entity.RegistrationStatus.WAITLISTED")
+    int promote(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT COUNT(r) FROM EventRegistration r WHERE r.event.id = :eventId " +
+           "AND r.status = com.eventmanagement.entity.RegistrationStatus.WAITLISTED " +
+           "AND (r.waitlistedAt < :waitlistedAt OR (r.waitlistedAt = :waitlistedAt AND r.id < :id))")
+    long countWaitlistedAhead(@Param("eventId") Long eventId,
+                              @Param("waitlistedAt") LocalDateTime waitlistedAt,
+                              @Param("id") Long id);
+
+    // Keyset pages of registrations as DTO projections, so neither list touches the lazy
+    // Event/User associations. Rosters are read off idx_registrations_event_roster
+
+    @Query("SELECT new com.eventmanagement.dto.RegistrationDTO(r.id, e.id, e.title, e.eventDate, e.venue, " +
+           "e.category, r.status, r.registeredAt) " +
+           "FROM EventRegistration r JOIN r.event e WHERE r.user.id = :userId AND r.status IN :statuses " +
+           "AND r.id > :afterId ORDER BY r.id ASC")
+    List<RegistrationDTO> findUserRegistrationsAfter(@Param("userId") Long userId,
+                                                     @Param("statuses") Collection<RegistrationStatus> statuses,
+                                                     @Param("afterId") Long afterId,
+                                                     Pageable pageable);
+
+    @Query("SELECT new com.eventmanagement.dto.AttendeeDTO(r.id, u.id, u.firstName, u.lastName, u.email, " +
+           "r.status, r.registeredAt) " +
+           "FROM EventRegistration r JOIN r.user u WHERE r.event.id = :eventId AND r.status IN :statuses " +
+           "AND r.id > :afterId ORDER BY r.id ASC")
+    List<AttendeeDTO> findRosterAfter(@Param("eventId") Long eventId,
+                                      @Param("statuses") Collection<RegistrationStatus> statuses,
+                                      @Param("afterId") Long afterId,
+                                      Pageable pageable);
 }
@@ -1,32 +1,151 @@
 package com.eventmanagement.repository;
 
+import com.eventmanagement.dto.EventSummaryDTO;
 import com.eventmanagement.entity.Event;
 import com.eventmanagement.entity.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
-public interface EventRepository extends JpaRepository<Event, Long> {
+public interface EventRepository extends JpaRepository<Event, Long>, EventSeatRepository {
     List<Event> findByCreatedBy(User createdBy);
     
-    @Query("SELECT e FROM Event e WHERE e.isActive = true ORDER BY e.eventDate ASC")
+    @Query("SELECT e FROM Event e JOIN FETCH e.createdBy WHERE e.isActive = true ORDER BY e.eventDate ASC")
     List<Event> findAllActiveEvents();
+
+    // Read through a server-side cursor; must be consumed inside a transaction and closed
+    @QueryHints({
+        @QueryHint(name = "org.hibernate.fetchSize", value = "500"),
+        @QueryHint(name = "org.hibernate.readOnly", value = "true")
+    })
+    @Query("SELECT e FROM Event e JOIN FETCH e.createdBy WHERE e.isActive = true ORDER BY e.eventDate ASC, e.id ASC")
+    Stream<Event> streamActiveEvents();
     
-    @Query("SELECT e FROM Event e WHERE e.isActive = true AND e.eventDate >= :currentDate ORDER BY e.eventDate ASC")
+    @Query("SELECT e FROM Event e JOIN FETCH e.createdBy WHERE e.isActive = true AND e.eventDate >= :currentDate ORDER BY e.eventDate ASC")
     List<Event> findUpcomingEvents(@Param("currentDate") LocalDateTime currentDate);
     
-    @Query("SELECT e FROM Event e WHERE e.isActive = true AND (LOWER(e.title) LIKE LOWER(CONCAT('%', :searchTerm, '%')) " +
+    @Query("SELECT e FROM Event e JOIN FETCH e.createdBy WHERE e.isActive = true AND (LOWER(e.title) LIKE LOWER(CONCAT('%', :searchTerm, '%')) " +
            "OR LOWER(e.category) LIKE LOWER(CONCAT('%', :searchTerm, '%')))")
     List<Event> searchEvents(@Param("searchTerm") String searchTerm);
     
-    @Query("SELECT e FROM Event e WHERE e.isActive = true AND LOWER(e.category) = LOWER(:category) ORDER BY e.eventDate ASC")
+    @Query("SELECT e FROM Event e JOIN FETCH e.createdBy WHERE e.isActive = true AND LOWER(e.category) = LOWER(:category) ORDER BY e.eventDate ASC")
     List<Event> findByCategory(@Param("category") String category);
     
     @Query("SELECT e FROM Event e WHERE e.isActive = true AND e.venue = :venue")
     List<Event> findByVenue(@Param("venue") String venue);
+
+    @Query("SELECT e FROM Event e JOIN FETCH e.createdBy WHERE e.id IN :ids")
+    List<Event> findAllWithCreatorByIdIn(@Param("ids") Collection<Long> ids);
+
+    // Keyset pages ordered by (eventDate, id); the Pageable only carries the limit
+
+    @Query("SELECT e FROM Event e JOIN FETCH e.createdBy WHERE e.isActive = true " +
+           "AND (e.eventDate > :afterDate OR (e.eventDate = :afterDate AND e.id > :afterId)) " +
+           "ORDER BY e.eventDate ASC, e.id ASC")
+    List<Event> findActiveEventsAfter(@Param("afterDate") LocalDateTime afterDate,
+                                      @Param("afterId") Long afterId,
+                                      Pageable pageable);
+
+    @Query("SELECT e FROM Event e JOIN FETCH e.createdBy WHERE e.isActive = true AND e.eventDate >= :currentDate " +
+           "AND (e.eventDate > :afterDate OR (e.eventDate = :afterDate AND e.id > :afterId)) " +
+           "ORDER BY e.eventDate ASC, e.id ASC")
+    List<Event> findUpcomingEventsAfter(@Param("currentDate") LocalDateTime currentDate,
+                                        @Param("afterDate") LocalDateTime afterDate,
+                                        @Param("afterId") Long afterId,
+                                        Pageable pageable);
+
+    @Query("SELECT e FROM Event e JOIN FETCH e.createdBy WHERE e.isActive = true " +
+           "AND (LOWER(e.title) LIKE LOWER(CONCAT('%', :searchTerm, '%')) " +
+           "OR LOWER(e.category) LIKE LOWER(CONCAT('%', :searchTerm, '%'))) " +
+           "AND (e.eventDate > :afterDate OR (e.eventDate = :afterDate AND e.id > :afterId)) " +
+           "ORDER BY e.eventDate ASC, e.id ASC")
+    List<Event> searchEventsAfter(@Param("searchTerm") String searchTerm,
+                                  @Param("afterDate") LocalDateTime afterDate,
+                                  @Param("afterId") Long afterId,
+                                  Pageable pageable);
+
+    @Query("SELECT e FROM Event e JOIN FETCH e.createdBy WHERE e.isActive = true AND LOWER(e.category) = LOWER(:category) " +
+           "AND (e.eventDate > :afterDate OR (e.eventDate = :afterDate AND e.id > :afterId)) " +
+           "ORDER BY e.eventDate ASC, e.id ASC")
+    List<Event> findByCategoryAfter(@Param("category") String category,
+                                    @Param("afterDate") LocalDateTime afterDate,
+                                    @Param("afterId") Long afterId,
+                                    Pageable pageable);
+
+    // Every event written since the given time, deleted ones included, so the in-memory catalog
+    // views can pick up writes made by other instances
+    @Query("SELECT e FROM Event e WHERE e.updatedAt >= :since")
+    List<Event> findUpdatedSince(@Param("since") LocalDateTime since);
+
+    // Validators for CatalogVersion; updated_at and (is_active, event_date) are indexed
+
+    @Query("SELECT MAX(e.updatedAt) FROM Event e")
+    LocalDateTime findLastUpdatedAt();
+
+    @Query("SELECT MIN(e.eventDate) FROM Event e WHERE e.isActive = true AND e.eventDate >= :now")
+    LocalDateTime findNextEventDateAfter(@Param("now") LocalDateTime now);
+
+    @Query("SELECT e.updatedAt FROM Event e WHERE e.id = :eventId")
+    Optional<LocalDateTime> findUpdatedAtById(@Param("eventId") Long eventId);
+
+    // Locks the event row, so waitlist promotions for one event run one at a time
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT e.capacity - e.registeredCount FROM Event e WHERE e.id = :eventId")
+    Integer lockFreeSeats(@Param("eventId") Long eventId);
+
+    // Summary projections of the keyset pages above; they skip the TEXT description and speakers
+
+    String SUMMARY_SELECT = "SELECT new com.eventmanagement.dto.EventSummaryDTO(e.id, e.title, e.eventDate, e.venue, " +
+            "e.category, e.capacity, e.registeredCount, CONCAT(c.firstName, ' ', c.lastName)) " +
+            "FROM Event e JOIN e.createdBy c ";
+
+    @Query(SUMMARY_SELECT + "WHERE e.id IN :ids")
+    List<EventSummaryDTO> findSummariesByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query(SUMMARY_SELECT + "WHERE e.isActive = true " +
+           "AND (e.eventDate > :afterDate OR (e.eventDate = :afterDate AND e.id > :afterId)) " +
+           "ORDER BY e.eventDate ASC, e.id ASC")
+    List<EventSummaryDTO> findActiveSummariesAfter(@Param("afterDate") LocalDateTime afterDate,
+                                                   @Param("afterId") Long afterId,
+                                                   Pageable pageable);
+
+    @Query(SUMMARY_SELECT + "WHERE e.isActive = true AND e.eventDate >= :currentDate " +
+           "AND (e.eventDate > :afterDate OR (e.eventDate = :afterDate AND e.id > :afterId)) " +
+           "ORDER BY e.eventDate ASC, e.id ASC")
+    List<EventSummaryDTO> findUpcomingSummariesAfter(@Param("currentDate") LocalDateTime currentDate,
+                                                     @Param("afterDate") LocalDateTime afterDate,
+                                                     @Param("afterId") Long afterId,
+                                                     Pageable pageable);
+
+    @Query(SUMMARY_SELECT + "WHERE e.isActive = true " +
+           "AND (LOWER(e.title) LIKE LOWER(CONCAT('%', :searchTerm, '%')) " +
+           "OR LOWER(e.category) LIKE LOWER(CONCAT('%', :searchTerm, '%'))) " +
+           "AND (e.eventDate > :afterDate OR (e.eventDate = :afterDate AND e.id > :afterId)) " +
+           "ORDER BY e.eventDate ASC, e.id ASC")
+    List<EventSummaryDTO> searchSummariesAfter(@Param("searchTerm") String searchTerm,
+                                               @Param("afterDate") LocalDateTime afterDate,
+                                               @Param("afterId") Long afterId,
+                                               Pageable pageable);
+
+    @Query(SUMMARY_SELECT + "WHERE e.isActive = true AND LOWER(e.category) = LOWER(:category) " +
+           "AND (e.eventDate > :afterDate OR (e.eventDate = :afterDate AND e.id > :afterId)) " +
+           "ORDER BY e.eventDate ASC, e.id ASC")
+    List<EventSummaryDTO> findSummariesByCategoryAfter(@Param("category") String category,
+                                                       @Param("afterDate") LocalDateTime afterDate,
+                                                       @Param("afterId") Long afterId,
+                                                       Pageable pageable);
 }
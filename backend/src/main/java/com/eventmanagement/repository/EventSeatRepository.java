@@ -0,0 +1,15 @@
+package com.eventmanagement.repository;
+
+/**
+ * Seat accounting as single conditional UPDATEs, so the capacity check and the count change
+ * are atomic; each returns the number of rows changed (0 when full or already empty).
+ * They move updated_at too, since the count is part of every event response.
+ */
+public interface EventSeatRepository {
+
+    int reserveSeat(Long eventId);
+
+    int releaseSeat(Long eventId);
+
+    int addSeats(Long eventId, int seats);
+}
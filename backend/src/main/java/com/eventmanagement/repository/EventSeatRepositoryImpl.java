@@ -0,0 +1,70 @@
+package com.eventmanagement.repository;
+
+import com.eventmanagement.entity.Event;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Plain JDBC rather than JPQL bulk updates: Hibernate evicts the whole events region of the
+ * second-level cache on every bulk update, which under registration load left it empty. Here
+ * only the changed event is evicted, once right away and again when the transaction completes,
+ * so a read between the two cannot leave the old count cached.
+ */
+public class EventSeatRepositoryImpl implements EventSeatRepository {
+
+    private static final String RESERVE_SQL =
+            "UPDATE events SET registered_count = registered_count + 1, updated_at = CURRENT_TIMESTAMP " +
+            "WHERE id = ? AND registered_count < capacity";
+
+    private static final String RELEASE_SQL =
+            "UPDATE events SET registered_count = registered_count - 1, updated_at = CURRENT_TIMESTAMP " +
+            "WHERE id = ? AND registered_count > 0";
+
+    private static final String ADD_SQL =
+            "UPDATE events SET registered_count = registered_count + ?, updated_at = CURRENT_TIMESTAMP WHERE id = ?";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Override
+    public int reserveSeat(Long eventId) {
+        return update(eventId, RESERVE_SQL, eventId);
+    }
+
+    @Override
+    public int releaseSeat(Long eventId) {
+        return update(eventId, RELEASE_SQL, eventId);
+    }
+
+    @Override
+    public int addSeats(Long eventId, int seats) {
+        return update(eventId, ADD_SQL, seats, eventId);
+    }
+
+    private int update(Long eventId, String sql, Object... args) {
+        // Pending entity changes go first, as they would before a JPQL bulk update
+        entityManager.flush();
+        int updated = jdbcTemplate.update(sql, args);
+        evict(eventId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    evict(eventId);
+                }
+            });
+        }
+        return updated;
+    }
+
+    private void evict(Long eventId) {
+        entityManager.getEntityManagerFactory().getCache().evict(Event.class, eventId);
+    }
+}
@@ -3,11 +3,28 @@ package com.eventmanagement.repository;
 import com.eventmanagement.entity.EventSpeaker;
 import com.eventmanagement.entity.Event;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface EventSpeakerRepository extends JpaRepository<EventSpeaker, Long> {
     List<EventSpeaker> findByEvent(Event event);
+
+    // Only the join rows; speakers themselves are resolved from SpeakerCache
+    @Query("SELECT es.event.id AS eventId, es.speaker.id AS speakerId FROM EventSpeaker es " +
+           "WHERE es.event.id IN :eventIds ORDER BY es.id ASC")
+    List<SpeakerLink> findSpeakerLinksByEventIdIn(@Param("eventIds") Collection<Long> eventIds);
+
+    @Query("SELECT e.id FROM EventSpeaker es JOIN es.event e WHERE es.speaker.id = :speakerId AND e.isActive = true " +
+           "ORDER BY e.eventDate ASC, e.id ASC")
+    List<Long> findActiveEventIdsBySpeakerId(@Param("speakerId") Long speakerId);
+
+    interface SpeakerLink {
+        Long getEventId();
+        Long getSpeakerId();
+    }
 }
@@ -2,8 +2,13 @@ package com.eventmanagement.repository;
 
 import com.eventmanagement.entity.Speaker;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+
 @Repository
 public interface SpeakerRepository extends JpaRepository<Speaker, Long> {
+    @Query("SELECT s.id FROM Speaker s ORDER BY s.name ASC, s.id ASC")
+    List<Long> findAllIdsOrderByName();
 }
@@ -8,12 +8,17 @@ import com.eventmanagement.entity.User;
 import com.eventmanagement.entity.UserRole;
 import com.eventmanagement.exception.BadRequestException;
 import com.eventmanagement.exception.ResourceNotFoundException;
+import com.eventmanagement.exception.ServiceUnavailableException;
 import com.eventmanagement.repository.UserRepository;
+import com.eventmanagement.config.AuthenticatedUser;
 import com.eventmanagement.config.JwtProvider;
+import com.eventmanagement.config.PasswordHasher;
+import com.eventmanagement.config.TokenRevocationList;
+import com.eventmanagement.config.VerifiedTokenCache;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 @Service
@@ -24,8 +29,9 @@ public class AuthService {
     @Autowired
     private UserRepository userRepository;
 
+    // BCrypt runs on its own bounded pool, see PasswordHasher
     @Autowired
-    private PasswordEncoder passwordEncoder;
+    private PasswordHasher passwordHasher;
 
     @Autowired
     private JwtProvider jwtProvider;
@@ -33,6 +39,15 @@ public class AuthService {
     @Autowired
     private EmailService emailService;
 
+    @Autowired
+    private TokenRevocationList revocationList;
+
+    @Autowired
+    private VerifiedTokenCache tokenCache;
+
+    // No transaction around signup and login: a connection would otherwise be held while the
+    // request waits for the hashing pool. The repository calls run in their own transactions
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public SignupResponse signup(SignupRequest request) {
         // Check if email already exists
         if (userRepository.existsByEmail(request.getEmail())) {
@@ -42,7 +57,7 @@ public class AuthService {
         // Create new user
         User user = User.builder()
                 .email(request.getEmail())
-                .password(passwordEncoder.encode(request.getPassword()))
+                .password(passwordHasher.encode(request.getPassword()))
                 .firstName(request.getFirstName())
                 .lastName(request.getLastName())
                 .role(UserRole.USER)
@@ -62,12 +77,13 @@ public class AuthService {
                 .build();
     }
 
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public LoginResponse login(LoginRequest request) {
         User user = userRepository.findByEmail(request.getEmail())
                 .orElseThrow(() -> new ResourceNotFoundException("User not found with email: " + request.getEmail()));
 
         // Check if password matches
-        if (!passwordEncoder.matches(request.getPassword(), user.getPassword())) {
+        if (!passwordHasher.matches(request.getPassword(), user.getPassword())) {
             throw new BadRequestException("Invalid email or password");
         }
 
@@ -76,6 +92,10 @@ public class AuthService {
             throw new BadRequestException("User account is deactivated");
         }
 
+        if (passwordHasher.needsRehash(user.getPassword())) {
+            rehash(user, request.getPassword());
+        }
+
         // Generate JWT token
         String token = jwtProvider.generateToken(user.getEmail(), user.getId(), user.getRole().toString());
 
@@ -89,6 +109,48 @@ public class AuthService {
                 .build();
     }
 
+    // Brings the stored hash to the configured BCrypt cost. Skipped when hashing is saturated;
+    // the next login tries again
+    private void rehash(User user, String rawPassword) {
+        try {
+            user.setPassword(passwordHasher.encode(rawPassword));
+            userRepository.save(user);
+            log.info("Password of user {} rehashed with the current cost", user.getId());
+        } catch (ServiceUnavailableException e) {
+            log.debug("Rehash of user {} deferred, hashing is saturated", user.getId());
+        }
+    }
+
+    public void logout(AuthenticatedUser user) {
+        if (user == null) {
+            throw new BadRequestException("Not logged in");
+        }
+        revocationList.revokeToken(user);
+        tokenCache.invalidate(user);
+        log.info("User {} logged out", user.getUserId());
+    }
+
+    // Only the user themselves or an admin. Every token issued to the user so far stops working
+    public void deactivateUser(Long userId, Long requesterId) {
+        if (requesterId == null) {
+            throw new BadRequestException("Not logged in");
+        }
+        User requester = userRepository.findById(requesterId)
+                .orElseThrow(() -> new ResourceNotFoundException("User not found with id: " + requesterId));
+        if (!requesterId.equals(userId) && requester.getRole() != UserRole.ADMIN) {
+            throw new BadRequestException("You don't have permission to deactivate this user");
+        }
+        User user = getUserById(userId);
+        if (!user.getIsActive()) {
+            throw new BadRequestException("User account is already deactivated");
+        }
+        user.setIsActive(false);
+        userRepository.save(user);
+        revocationList.revokeUser(userId);
+        tokenCache.invalidateUser(userId);
+        log.info("User {} deactivated by {}", userId, requesterId);
+    }
+
     public User getUserById(Long userId) {
         return userRepository.findById(userId)
                 .orElseThrow(() -> new ResourceNotFoundException("User not found with id: " + userId));
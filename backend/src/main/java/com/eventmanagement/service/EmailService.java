@@ -3,11 +3,14 @@ package com.eventmanagement.service;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.MailSendException;
 import org.springframework.mail.SimpleMailMessage;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 
+import java.util.Map;
+
 @Service
 @Slf4j
 public class EmailService {
@@ -42,18 +45,7 @@ public class EmailService {
     @Async
     public void sendRegistrationConfirmation(String to, String firstName, String eventTitle) {
         try {
-            SimpleMailMessage message = new SimpleMailMessage();
-            message.setTo(to);
-            message.setSubject("Event Registration Confirmation");
-            message.setText("Hi " + firstName + ",\n\n" +
-                    "Thank you for registering for: " + eventTitle + "\n" +
-                    "Your registration is confirmed.\n" +
-                    "We will send you a reminder before the event.\n\n" +
-                    "Best regards,\n" +
-                    "Event Management Team");
-            message.setFrom(senderEmail);
-
-            mailSender.send(message);
+            mailSender.send(registrationConfirmation(to, firstName, eventTitle));
             log.info("Registration confirmation email sent to: {}", to);
         } catch (Exception e) {
             log.warn("Failed to send registration confirmation to {}: {}", to, e.getMessage());
@@ -61,6 +53,80 @@ public class EmailService {
         }
     }
 
+    /**
+     * Sends confirmations for a group of registrations as one batch over a single connection.
+     * Recipients map email to first name.
+     */
+    @Async
+    public void sendRegistrationConfirmations(Map<String, String> recipients, String eventTitle) {
+        if (recipients.isEmpty()) {
+            return;
+        }
+        SimpleMailMessage[] messages = recipients.entrySet().stream()
+                .map(recipient -> registrationConfirmation(recipient.getKey(), recipient.getValue(), eventTitle))
+                .toArray(SimpleMailMessage[]::new);
+        try {
+            mailSender.send(messages);
+            log.info("Registration confirmation emails sent to {} recipients", messages.length);
+        } catch (MailSendException e) {
+            log.warn("Failed to send {} of {} registration confirmations: {}",
+                    e.getFailedMessages().size(), messages.length, e.getMessage());
+        } catch (Exception e) {
+            log.warn("Failed to send {} registration confirmations: {}", messages.length, e.getMessage());
+        }
+    }
+
+    private SimpleMailMessage registrationConfirmation(String to, String firstName, String eventTitle) {
+        SimpleMailMessage message = new SimpleMailMessage();
+        message.setTo(to);
+        message.setSubject("Event Registration Confirmation");
+        message.setText("Hi " + firstName + ",\n\n" +
+                "Thank you for registering for: " + eventTitle + "\n" +
+                "Your registration is confirmed.\n" +
+                "We will send you a reminder before the event.\n\n" +
+                "Best regards,\n" +
+                "Event Management Team");
+        message.setFrom(senderEmail);
+        return message;
+    }
+
+    /**
+     * Tells users promoted off a waitlist that their seat is confirmed, as one batch over a
+     * single connection. Recipients map email to first name.
+     */
+    @Async
+    public void sendWaitlistPromotions(Map<String, String> recipients, String eventTitle) {
+        if (recipients.isEmpty()) {
+            return;
+        }
+        SimpleMailMessage[] messages = recipients.entrySet().stream()
+                .map(recipient -> waitlistPromotion(recipient.getKey(), recipient.getValue(), eventTitle))
+                .toArray(SimpleMailMessage[]::new);
+        try {
+            mailSender.send(messages);
+            log.info("Waitlist promotion emails sent to {} recipients", messages.length);
+        } catch (MailSendException e) {
+            log.warn("Failed to send {} of {} waitlist promotions: {}",
+                    e.getFailedMessages().size(), messages.length, e.getMessage());
+        } catch (Exception e) {
+            log.warn("Failed to send {} waitlist promotions: {}", messages.length, e.getMessage());
+        }
+    }
+
+    private SimpleMailMessage waitlistPromotion(String to, String firstName, String eventTitle) {
+        SimpleMailMessage message = new SimpleMailMessage();
+        message.setTo(to);
+        message.setSubject("A Seat Opened Up For You");
+        message.setText("Hi " + firstName + ",\n\n" +
+                "A seat became available for: " + eventTitle + "\n" +
+                "You have been moved off the waitlist and your registration is confirmed.\n" +
+                "We will send you a reminder before the event.\n\n" +
+                "Best regards,\n" +
+                "Event Management Team");
+        message.setFrom(senderEmail);
+        return message;
+    }
+
     @Async
     public void sendEventReminder(String to, String firstName, String eventTitle, String eventDate) {
         try {
@@ -1,22 +1,54 @@
 package com.eventmanagement.service;
 
+import com.eventmanagement.catalog.CatalogChangeEvent;
+import com.eventmanagement.catalog.CatalogFacets;
+import com.eventmanagement.catalog.CatalogPage;
+import com.eventmanagement.catalog.EventCatalogCache;
+import com.eventmanagement.catalog.EventSearchIndex;
+import com.eventmanagement.catalog.EventSnapshot;
+import com.eventmanagement.catalog.RegisteredEventIds;
+import com.eventmanagement.catalog.RegisteredEventsCache;
+import com.eventmanagement.catalog.SearchHit;
+import com.eventmanagement.catalog.SpeakerCache;
+import com.eventmanagement.catalog.UpcomingEventIndex;
 import com.eventmanagement.dto.CreateEventRequest;
+import com.eventmanagement.dto.CursorPage;
+import com.eventmanagement.dto.EventCursor;
 import com.eventmanagement.dto.EventDTO;
+import com.eventmanagement.dto.EventFacetsDTO;
+import com.eventmanagement.dto.EventSummaryDTO;
 import com.eventmanagement.dto.SpeakerDTO;
 import com.eventmanagement.entity.*;
 import com.eventmanagement.exception.BadRequestException;
 import com.eventmanagement.exception.ResourceNotFoundException;
 import com.eventmanagement.repository.*;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @Transactional
@@ -41,6 +73,45 @@ public class EventService {
     @Autowired
     private EventAttendanceRepository attendanceRepository;
 
+    @Autowired
+    private EventCatalogCache catalogCache;
+
+    @Autowired
+    private RegisteredEventsCache registeredEventsCache;
+
+    @Autowired
+    private EventSearchIndex searchIndex;
+
+    @Autowired
+    private UpcomingEventIndex upcomingIndex;
+
+    @Autowired
+    private CatalogFacets catalogFacets;
+
+    @Autowired
+    private SpeakerCache speakerCache;
+
+    @Autowired
+    private WaitlistService waitlistService;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${events.pagination.default-size:20}")
+    private int defaultPageSize = 20;
+
+    @Value("${events.pagination.max-size:100}")
+    private int maxPageSize = 100;
+
+    @Value("${events.export.chunk-size:500}")
+    private int exportChunkSize = 500;
+
     public EventDTO createEvent(CreateEventRequest request, Long userId) {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new ResourceNotFoundException("User not found"));
@@ -65,64 +136,255 @@ public class EventService {
 
         Event savedEvent = eventRepository.save(event);
         log.info("Event created: {} by user: {}", savedEvent.getId(), userId);
+        eventPublisher.publishEvent(new CatalogChangeEvent(savedEvent.getId(), CatalogChangeEvent.ChangeType.CREATED,
+                null, EventSnapshot.of(savedEvent)));
 
         return mapToDTO(savedEvent, null);
     }
 
-    public List<EventDTO> getAllEvents(Long userId) {
+    public CursorPage<EventDTO> getAllEvents(Long userId, String cursor, Integer size) {
+        EventCursor after = EventCursor.decode(cursor);
+        int limit = resolvePageSize(size);
         try {
-            List<Event> events = eventRepository.findAllActiveEvents();
-            return events.stream()
-                    .map(event -> mapToDTO(event, userId))
-                    .collect(Collectors.toList());
+            return loadPage("all|" + after.encode() + "|" + limit, limit, userId,
+                    () -> eventRepository.findActiveEventsAfter(
+                            after.getEventDate(), after.getId(), PageRequest.of(0, limit + 1)));
         } catch (Exception e) {
             log.error("Error fetching all events", e);
-            return Collections.emptyList();
+            return CursorPage.empty();
         }
     }
 
-    public List<EventDTO> getUpcomingEvents(Long userId) {
+    public CursorPage<EventSummaryDTO> getAllEventSummaries(Long userId, String cursor, Integer size) {
+        EventCursor after = EventCursor.decode(cursor);
+        int limit = resolvePageSize(size);
         try {
-            List<Event> events = eventRepository.findUpcomingEvents(LocalDateTime.now());
-            return events.stream()
-                    .map(event -> mapToDTO(event, userId))
-                    .collect(Collectors.toList());
+            return loadSummaryPage("all|" + after.encode() + "|" + limit, limit, userId,
+                    () -> eventRepository.findActiveSummariesAfter(
+                            after.getEventDate(), after.getId(), PageRequest.of(0, limit + 1)));
+        } catch (Exception e) {
+            log.error("Error fetching all event summaries", e);
+            return CursorPage.empty();
+        }
+    }
+
+    public CursorPage<EventDTO> getUpcomingEvents(Long userId, String cursor, Integer size, String until) {
+        EventCursor after = EventCursor.decode(cursor);
+        int limit = resolvePageSize(size);
+        LocalDateTime untilDate = parseDateTime(until);
+        if (upcomingIndex.isReady()) {
+            long generation = catalogCache.generation();
+            CatalogPage page = upcomingIndexedPage(after, untilDate, limit);
+            return new CursorPage<>(personalize(getSkeletons(page.getEventIds(), generation), userId), page.getNextCursor());
+        }
+        try {
+            CursorPage<EventDTO> page = loadPage("upcoming|" + after.encode() + "|" + limit, limit, userId,
+                    () -> eventRepository.findUpcomingEventsAfter(LocalDateTime.now(),
+                            after.getEventDate(), after.getId(), PageRequest.of(0, limit + 1)));
+            // A cached page may still hold events that started since it was loaded
+            LocalDateTime now = LocalDateTime.now();
+            page.getItems().removeIf(event -> event.getEventDate().isBefore(now));
+            if (untilDate != null && page.getItems().removeIf(event -> event.getEventDate().isAfter(untilDate))) {
+                page.setNextCursor(null);
+            }
+            return page;
         } catch (Exception e) {
             log.error("Error fetching upcoming events", e);
-            return Collections.emptyList();
+            return CursorPage.empty();
+        }
+    }
+
+    public CursorPage<EventSummaryDTO> getUpcomingEventSummaries(Long userId, String cursor, Integer size, String until) {
+        EventCursor after = EventCursor.decode(cursor);
+        int limit = resolvePageSize(size);
+        LocalDateTime untilDate = parseDateTime(until);
+        if (upcomingIndex.isReady()) {
+            long generation = catalogCache.generation();
+            CatalogPage page = upcomingIndexedPage(after, untilDate, limit);
+            return new CursorPage<>(personalizeSummaries(getSummaries(page.getEventIds(), generation), userId), page.getNextCursor());
+        }
+        try {
+            CursorPage<EventSummaryDTO> page = loadSummaryPage("upcoming|" + after.encode() + "|" + limit, limit, userId,
+                    () -> eventRepository.findUpcomingSummariesAfter(LocalDateTime.now(),
+                            after.getEventDate(), after.getId(), PageRequest.of(0, limit + 1)));
+            LocalDateTime now = LocalDateTime.now();
+            page.getItems().removeIf(event -> event.getEventDate().isBefore(now));
+            if (untilDate != null && page.getItems().removeIf(event -> event.getEventDate().isAfter(untilDate))) {
+                page.setNextCursor(null);
+            }
+            return page;
+        } catch (Exception e) {
+            log.error("Error fetching upcoming event summaries", e);
+            return CursorPage.empty();
         }
     }
 
+    private CatalogPage upcomingIndexedPage(EventCursor after, LocalDateTime untilDate, int limit) {
+        List<EventSnapshot> rows = upcomingIndex.nextAfter(after.getEventDate(), after.getId(), untilDate, limit + 1);
+        boolean hasNext = rows.size() > limit;
+        List<EventSnapshot> events = hasNext ? rows.subList(0, limit) : rows;
+        String nextCursor = null;
+        if (hasNext) {
+            EventSnapshot last = events.get(events.size() - 1);
+            nextCursor = new EventCursor(last.getEventDate(), last.getId()).encode();
+        }
+        List<Long> eventIds = events.stream()
+                .map(EventSnapshot::getId)
+                .collect(Collectors.toList());
+        return new CatalogPage(eventIds, nextCursor);
+    }
+
     public EventDTO getEventById(Long eventId, Long userId) {
-        Event event = eventRepository.findById(eventId)
-                .orElseThrow(() -> new ResourceNotFoundException("Event not found"));
-        return mapToDTO(event, userId);
+        long generation = catalogCache.generation();
+        List<EventDTO> skeletons = getSkeletons(Collections.singletonList(eventId), generation);
+        if (skeletons.isEmpty()) {
+            throw new ResourceNotFoundException("Event not found");
+        }
+        return personalize(skeletons, userId).get(0);
+    }
+
+    // Summaries in the order of the given ids, skipping ids that no longer exist
+    public List<EventSummaryDTO> getEventSummaries(List<Long> eventIds, Long userId) {
+        long generation = catalogCache.generation();
+        return personalizeSummaries(getSummaries(eventIds, generation), userId);
     }
 
-    public List<EventDTO> searchEvents(String searchTerm, Long userId) {
+    public CursorPage<EventDTO> searchEvents(String searchTerm, Long userId, String cursor, Integer size) {
+        EventCursor after = EventCursor.decode(cursor);
+        int limit = resolvePageSize(size);
+        if (searchFromIndex(after)) {
+            long generation = catalogCache.generation();
+            CatalogPage page = searchIndexedPage(searchTerm, after, limit);
+            return new CursorPage<>(personalize(getSkeletons(page.getEventIds(), generation), userId), page.getNextCursor());
+        }
         try {
-            List<Event> events = eventRepository.searchEvents(searchTerm);
-            return events.stream()
-                    .map(event -> mapToDTO(event, userId))
-                    .collect(Collectors.toList());
+            return loadPage("search|" + searchTerm.toLowerCase() + "|" + after.encode() + "|" + limit, limit, userId,
+                    () -> eventRepository.searchEventsAfter(searchTerm,
+                            after.getEventDate(), after.getId(), PageRequest.of(0, limit + 1)));
         } catch (Exception e) {
             log.error("Error searching events", e);
-            return Collections.emptyList();
+            return CursorPage.empty();
         }
     }
 
-    public List<EventDTO> getEventsByCategory(String category, Long userId) {
+    public CursorPage<EventSummaryDTO> searchEventSummaries(String searchTerm, Long userId, String cursor, Integer size) {
+        EventCursor after = EventCursor.decode(cursor);
+        int limit = resolvePageSize(size);
+        if (searchFromIndex(after)) {
+            long generation = catalogCache.generation();
+            CatalogPage page = searchIndexedPage(searchTerm, after, limit);
+            return new CursorPage<>(personalizeSummaries(getSummaries(page.getEventIds(), generation), userId), page.getNextCursor());
+        }
         try {
-            List<Event> events = eventRepository.findByCategory(category);
-            return events.stream()
-                    .map(event -> mapToDTO(event, userId))
-                    .collect(Collectors.toList());
+            return loadSummaryPage("search|" + searchTerm.toLowerCase() + "|" + after.encode() + "|" + limit, limit, userId,
+                    () -> eventRepository.searchSummariesAfter(searchTerm,
+                            after.getEventDate(), after.getId(), PageRequest.of(0, limit + 1)));
+        } catch (Exception e) {
+            log.error("Error searching event summaries", e);
+            return CursorPage.empty();
+        }
+    }
+
+    // A cursor without a score was issued by the SQL fallback before the index was ready; the
+    // rest of that search keeps going through the fallback so its pages follow one ordering
+    private boolean searchFromIndex(EventCursor after) {
+        return searchIndex.isReady() && (after == EventCursor.FIRST || after.getScore() != null);
+    }
+
+    // Ranks matches in memory and pages through them by (score, eventDate, id)
+    private CatalogPage searchIndexedPage(String searchTerm, EventCursor after, int limit) {
+        List<SearchHit> hits = searchIndex.search(searchTerm);
+
+        int start = 0;
+        if (after != EventCursor.FIRST) {
+            int position = Collections.binarySearch(hits,
+                    new SearchHit(after.getId(), after.getScore(), after.getEventDate()), SearchHit.RANKING);
+            start = position >= 0 ? position + 1 : -position - 1;
+        }
+        int end = Math.min(start + limit, hits.size());
+        List<SearchHit> pageHits = hits.subList(Math.min(start, end), end);
+
+        String nextCursor = null;
+        if (end < hits.size() && !pageHits.isEmpty()) {
+            SearchHit last = pageHits.get(pageHits.size() - 1);
+            nextCursor = new EventCursor(last.getScore(), last.getEventDate(), last.getEventId()).encode();
+        }
+
+        List<Long> eventIds = pageHits.stream()
+                .map(SearchHit::getEventId)
+                .collect(Collectors.toList());
+        return new CatalogPage(eventIds, nextCursor);
+    }
+
+    public CursorPage<EventDTO> getEventsByCategory(String category, Long userId, String cursor, Integer size) {
+        EventCursor after = EventCursor.decode(cursor);
+        int limit = resolvePageSize(size);
+        try {
+            return loadPage("category|" + category.toLowerCase() + "|" + after.encode() + "|" + limit, limit, userId,
+                    () -> eventRepository.findByCategoryAfter(category,
+                            after.getEventDate(), after.getId(), PageRequest.of(0, limit + 1)));
         } catch (Exception e) {
             log.error("Error fetching events by category", e);
-            return Collections.emptyList();
+            return CursorPage.empty();
         }
     }
 
+    public CursorPage<EventSummaryDTO> getEventSummariesByCategory(String category, Long userId, String cursor, Integer size) {
+        EventCursor after = EventCursor.decode(cursor);
+        int limit = resolvePageSize(size);
+        try {
+            return loadSummaryPage("category|" + category.toLowerCase() + "|" + after.encode() + "|" + limit, limit, userId,
+                    () -> eventRepository.findSummariesByCategoryAfter(category,
+                            after.getEventDate(), after.getId(), PageRequest.of(0, limit + 1)));
+        } catch (Exception e) {
+            log.error("Error fetching event summaries by category", e);
+            return CursorPage.empty();
+        }
+    }
+
+    /**
+     * Writes every active event to {@code out} in the usual ApiResponse envelope. Rows are
+     * streamed from the database and mapped, written and detached one chunk at a time, so
+     * memory stays bounded by the chunk size rather than the catalog size.
+     */
+    @Transactional(readOnly = true)
+    public void exportEvents(Long userId, OutputStream out) throws IOException {
+        ObjectWriter writer = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        int exported = 0;
+
+        try (Stream<Event> rows = eventRepository.streamActiveEvents();
+             JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+            generator.writeStartObject();
+            generator.writeBooleanField("success", true);
+            generator.writeStringField("message", "Events exported successfully");
+            generator.writeArrayFieldStart("data");
+
+            List<Event> chunk = new ArrayList<>(exportChunkSize);
+            Iterator<Event> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                chunk.add(iterator.next());
+                if (chunk.size() == exportChunkSize || !iterator.hasNext()) {
+                    for (EventDTO dto : personalize(assembleSkeletons(chunk), userId)) {
+                        writer.writeValue(generator, dto);
+                    }
+                    generator.flush();
+                    exported += chunk.size();
+                    chunk.clear();
+                    entityManager.clear();
+                }
+            }
+
+            generator.writeEndArray();
+            generator.writeEndObject();
+        }
+        log.info("Exported {} events", exported);
+    }
+
+    // Empty until the counts are first built; that scan never runs on a request thread
+    public EventFacetsDTO getEventFacets() {
+        return catalogFacets.getFacets();
+    }
+
     public EventDTO updateEvent(Long eventId, CreateEventRequest request, Long userId) {
         Event event = eventRepository.findById(eventId)
                 .orElseThrow(() -> new ResourceNotFoundException("Event not found"));
@@ -136,6 +398,8 @@ public class EventService {
 
         DateTimeFormatter formatter = DateTimeFormatter.ISO_DATE_TIME;
         LocalDateTime eventDate = LocalDateTime.parse(request.getEventDate(), formatter);
+        EventSnapshot previous = EventSnapshot.of(event);
+        int previousCapacity = event.getCapacity();
 
         event.setTitle(request.getTitle());
         event.setDescription(request.getDescription());
@@ -144,8 +408,14 @@ public class EventService {
         event.setCategory(request.getCategory());
         event.setCapacity(request.getCapacity());
 
-        Event updatedEvent = eventRepository.save(event);
+        Event updatedEvent = eventRepository.saveAndFlush(event);
+        if (updatedEvent.getCapacity() > previousCapacity) {
+            List<Long> promoted = waitlistService.fillFreeSeats(eventId);
+            updatedEvent.setRegisteredCount(updatedEvent.getRegisteredCount() + promoted.size());
+        }
         log.info("Event updated: {} by user: {}", eventId, userId);
+        eventPublisher.publishEvent(new CatalogChangeEvent(eventId, CatalogChangeEvent.ChangeType.UPDATED,
+                previous, EventSnapshot.of(updatedEvent)));
 
         return mapToDTO(updatedEvent, userId);
     }
@@ -161,22 +431,222 @@ public class EventService {
             throw new BadRequestException("You don't have permission to delete this event");
         }
 
+        EventSnapshot previous = EventSnapshot.of(event);
         event.setIsActive(false);
         eventRepository.save(event);
         log.info("Event deleted: {} by user: {}", eventId, userId);
+        eventPublisher.publishEvent(new CatalogChangeEvent(eventId, CatalogChangeEvent.ChangeType.DELETED,
+                previous, null));
+    }
+
+    private LocalDateTime parseDateTime(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return LocalDateTime.parse(value, DateTimeFormatter.ISO_DATE_TIME);
+        } catch (Exception e) {
+            throw new BadRequestException("Invalid date-time: " + value);
+        }
+    }
+
+    private int resolvePageSize(Integer size) {
+        if (size == null) {
+            return defaultPageSize;
+        }
+        if (size < 1) {
+            throw new BadRequestException("Page size must be at least 1");
+        }
+        return Math.min(size, maxPageSize);
+    }
+
+    // Serves a list page from the catalog cache, running the keyset query only on a miss.
+    // The query fetches limit + 1 rows so the extra row tells us whether a next page exists.
+    private CursorPage<EventDTO> loadPage(String key, int limit, Long userId, Supplier<List<Event>> query) {
+        long generation = catalogCache.generation();
+        CatalogPage page = catalogCache.getPage(key);
+        List<EventDTO> skeletons;
+
+        if (page == null) {
+            List<Event> rows = query.get();
+            boolean hasNext = rows.size() > limit;
+            List<Event> events = hasNext ? rows.subList(0, limit) : rows;
+            String nextCursor = null;
+            if (hasNext) {
+                Event last = events.get(events.size() - 1);
+                nextCursor = new EventCursor(last.getEventDate(), last.getId()).encode();
+            }
+
+            skeletons = assembleSkeletons(events);
+            page = new CatalogPage(events.stream().map(Event::getId).collect(Collectors.toList()), nextCursor);
+            catalogCache.putEvents(skeletons, generation);
+            catalogCache.putPage(key, page, generation);
+        } else {
+            skeletons = getSkeletons(page.getEventIds(), generation);
+        }
+
+        return new CursorPage<>(personalize(skeletons, userId), page.getNextCursor());
+    }
+
+    // Same page keys as loadPage: both views share the cached ids and differ only in the items
+    private CursorPage<EventSummaryDTO> loadSummaryPage(String key, int limit, Long userId,
+                                                        Supplier<List<EventSummaryDTO>> query) {
+        long generation = catalogCache.generation();
+        CatalogPage page = catalogCache.getPage(key);
+        List<EventSummaryDTO> summaries;
+
+        if (page == null) {
+            List<EventSummaryDTO> rows = query.get();
+            boolean hasNext = rows.size() > limit;
+            summaries = hasNext ? rows.subList(0, limit) : rows;
+            String nextCursor = null;
+            if (hasNext) {
+                EventSummaryDTO last = summaries.get(summaries.size() - 1);
+                nextCursor = new EventCursor(last.getEventDate(), last.getId()).encode();
+            }
+
+            page = new CatalogPage(summaries.stream().map(EventSummaryDTO::getId).collect(Collectors.toList()), nextCursor);
+            catalogCache.putSummaries(summaries, generation);
+            catalogCache.putPage(key, page, generation);
+        } else {
+            summaries = getSummaries(page.getEventIds(), generation);
+        }
+
+        return new CursorPage<>(personalizeSummaries(summaries, userId), page.getNextCursor());
+    }
+
+    // Like getSkeletons, but cached full skeletons are reused before falling back to the projection
+    private List<EventSummaryDTO> getSummaries(List<Long> eventIds, long generation) {
+        Map<Long, EventSummaryDTO> cached = new HashMap<>(catalogCache.getSummaries(eventIds));
+        if (cached.size() < eventIds.size()) {
+            List<Long> missing = eventIds.stream()
+                    .filter(id -> !cached.containsKey(id))
+                    .collect(Collectors.toList());
+            List<EventSummaryDTO> loaded = new ArrayList<>();
+            Map<Long, EventDTO> skeletons = catalogCache.getEvents(missing);
+            for (EventDTO skeleton : skeletons.values()) {
+                loaded.add(toSummary(skeleton));
+            }
+            if (skeletons.size() < missing.size()) {
+                loaded.addAll(eventRepository.findSummariesByIdIn(missing.stream()
+                        .filter(id -> !skeletons.containsKey(id))
+                        .collect(Collectors.toList())));
+            }
+            catalogCache.putSummaries(loaded, generation);
+            for (EventSummaryDTO summary : loaded) {
+                cached.put(summary.getId(), summary);
+            }
+        }
+
+        List<EventSummaryDTO> summaries = new ArrayList<>(eventIds.size());
+        for (Long eventId : eventIds) {
+            EventSummaryDTO summary = cached.get(eventId);
+            if (summary != null) {
+                summaries.add(summary);
+            }
+        }
+        return summaries;
+    }
+
+    // Returns skeletons in the order of the given ids, loading cache misses in one query.
+    // Ids that no longer exist are skipped.
+    private List<EventDTO> getSkeletons(List<Long> eventIds, long generation) {
+        Map<Long, EventDTO> cached = new HashMap<>(catalogCache.getEvents(eventIds));
+        if (cached.size() < eventIds.size()) {
+            List<Long> missing = eventIds.stream()
+                    .filter(id -> !cached.containsKey(id))
+                    .collect(Collectors.toList());
+            List<EventDTO> loaded = assembleSkeletons(eventRepository.findAllWithCreatorByIdIn(missing));
+            catalogCache.putEvents(loaded, generation);
+            for (EventDTO skeleton : loaded) {
+                cached.put(skeleton.getId(), skeleton);
+            }
+        }
+
+        List<EventDTO> skeletons = new ArrayList<>(eventIds.size());
+        for (Long eventId : eventIds) {
+            EventDTO skeleton = cached.get(eventId);
+            if (skeleton != null) {
+                skeletons.add(skeleton);
+            }
+        }
+        return skeletons;
     }
 
     private EventDTO mapToDTO(Event event, Long userId) {
-        Boolean isRegistered = false;
-        if (userId != null) {
-            User user = userRepository.findById(userId).orElse(null);
-            isRegistered = registrationRepository.findByEventAndUser(event, user).isPresent();
+        return personalize(assembleSkeletons(Collections.singletonList(event)), userId).get(0);
+    }
+
+    // Builds the user-independent part of the DTOs for a whole page with a single query for the
+    // speaker links; speakers come from SpeakerCache and creator names from the JOIN FETCH in
+    // the list queries.
+    private List<EventDTO> assembleSkeletons(List<Event> events) {
+        if (events.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        List<Long> eventIds = events.stream()
+                .map(Event::getId)
+                .collect(Collectors.toList());
+
+        List<EventSpeakerRepository.SpeakerLink> links = eventSpeakerRepository.findSpeakerLinksByEventIdIn(eventIds);
+        Map<Long, SpeakerDTO> speakers = speakerCache.getAll(links.stream()
+                .map(EventSpeakerRepository.SpeakerLink::getSpeakerId)
+                .collect(Collectors.toSet()));
+        Map<Long, List<SpeakerDTO>> speakersByEvent = new HashMap<>();
+        for (EventSpeakerRepository.SpeakerLink link : links) {
+            SpeakerDTO speaker = speakers.get(link.getSpeakerId());
+            if (speaker != null) {
+                speakersByEvent.computeIfAbsent(link.getEventId(), id -> new ArrayList<>()).add(speaker);
+            }
         }
 
-        List<SpeakerDTO> speakers = eventSpeakerRepository.findByEvent(event).stream()
-                .map(es -> mapSpeakerToDTO(es.getSpeaker()))
+        return events.stream()
+                .map(event -> buildDTO(event, false,
+                        speakersByEvent.getOrDefault(event.getId(), Collections.emptyList())))
                 .collect(Collectors.toList());
+    }
+
+    // Copies the shared skeletons and fills in isRegistered from the user's cached registrations
+    private List<EventDTO> personalize(List<EventDTO> skeletons, Long userId) {
+        RegisteredEventIds registered = registeredEventsCache.get(userId);
+
+        List<EventDTO> dtos = new ArrayList<>(skeletons.size());
+        for (EventDTO skeleton : skeletons) {
+            dtos.add(skeleton.toBuilder()
+                    .isRegistered(registered.contains(skeleton.getId()))
+                    .build());
+        }
+        return dtos;
+    }
+
+    private List<EventSummaryDTO> personalizeSummaries(List<EventSummaryDTO> skeletons, Long userId) {
+        RegisteredEventIds registered = registeredEventsCache.get(userId);
+
+        List<EventSummaryDTO> summaries = new ArrayList<>(skeletons.size());
+        for (EventSummaryDTO skeleton : skeletons) {
+            summaries.add(skeleton.toBuilder()
+                    .isRegistered(registered.contains(skeleton.getId()))
+                    .build());
+        }
+        return summaries;
+    }
+
+    private EventSummaryDTO toSummary(EventDTO skeleton) {
+        return EventSummaryDTO.builder()
+                .id(skeleton.getId())
+                .title(skeleton.getTitle())
+                .eventDate(skeleton.getEventDate())
+                .venue(skeleton.getVenue())
+                .category(skeleton.getCategory())
+                .capacity(skeleton.getCapacity())
+                .registeredCount(skeleton.getRegisteredCount())
+                .createdByName(skeleton.getCreatedByName())
+                .isRegistered(false)
+                .build();
+    }
 
+    private EventDTO buildDTO(Event event, Boolean isRegistered, List<SpeakerDTO> speakers) {
         return EventDTO.builder()
                 .id(event.getId())
                 .title(event.getTitle())
@@ -192,14 +662,4 @@ public class EventService {
                 .createdAt(event.getCreatedAt())
                 .build();
     }
-
-    private SpeakerDTO mapSpeakerToDTO(Speaker speaker) {
-        return SpeakerDTO.builder()
-                .id(speaker.getId())
-                .name(speaker.getName())
-                .bio(speaker.getBio())
-                .expertise(speaker.getExpertise())
-                .email(speaker.getEmail())
-                .build();
-    }
 }
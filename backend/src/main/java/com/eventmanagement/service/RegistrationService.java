@@ -1,24 +1,78 @@
 package com.eventmanagement.service;
 
+import com.eventmanagement.catalog.CatalogChangeEvent;
+import com.eventmanagement.catalog.RegistrationChangeEvent;
+import com.eventmanagement.dto.AttendeeDTO;
+import com.eventmanagement.dto.BulkCheckInResultDTO;
+import com.eventmanagement.dto.BulkRegistrationOutcomeDTO;
+import com.eventmanagement.dto.BulkRegistrationRequest;
+import com.eventmanagement.dto.BulkRegistrationResultDTO;
+import com.eventmanagement.dto.CheckInOutcomeDTO;
+import com.eventmanagement.dto.CursorPage;
+import com.eventmanagement.dto.RegistrationCursor;
+import com.eventmanagement.dto.RegistrationDTO;
 import com.eventmanagement.entity.*;
 import com.eventmanagement.exception.BadRequestException;
 import com.eventmanagement.exception.ResourceNotFoundException;
+import com.eventmanagement.registration.GroupAdmission;
+import com.eventmanagement.registration.SeatReservationEngine;
 import com.eventmanagement.repository.*;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @Transactional
 @Slf4j
 public class RegistrationService {
 
+    private static final String INSERT_SQL =
+            "INSERT INTO event_registrations (event_id, user_id, status, registered_at) VALUES (?, ?, 'REGISTERED', ?)";
+
+    private static final String ATTEND_SQL =
+            "UPDATE event_registrations SET status = 'ATTENDED' WHERE id = ? AND status = 'REGISTERED'";
+
+    private static final String ATTENDANCE_SQL =
+            "INSERT INTO event_attendances (event_id, user_id, checked_in_at) VALUES (?, ?, ?)";
+
+    private static final Set<RegistrationStatus> ACTIVE =
+            EnumSet.of(RegistrationStatus.REGISTERED, RegistrationStatus.ATTENDED);
+
+    private static final Set<RegistrationStatus> NOT_CANCELLED =
+            EnumSet.complementOf(EnumSet.of(RegistrationStatus.CANCELLED));
+
+    private static final Set<RegistrationStatus> REACTIVATABLE =
+            EnumSet.of(RegistrationStatus.CANCELLED, RegistrationStatus.WAITLISTED);
+
     @Autowired
     private EventRegistrationRepository registrationRepository;
 
+    @Autowired
+    private EventAttendanceRepository attendanceRepository;
+
     @Autowired
     private EventRepository eventRepository;
 
@@ -28,40 +82,99 @@ public class RegistrationService {
     @Autowired
     private EmailService emailService;
 
-    public void registerForEvent(Long eventId, Long userId) {
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private WaitlistService waitlistService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Value("${registration.bulk.max-size:500}")
+    private int maxGroupSize;
+
+    @Value("${registration.check-in.max-size:1000}")
+    private int maxCheckInSize = 1000;
+
+    @Value("${registration.pagination.default-size:100}")
+    private int defaultPageSize = 100;
+
+    @Value("${registration.pagination.max-size:1000}")
+    private int maxPageSize = 1000;
+
+    // Present when registration.seat-engine.enabled is set
+    @Autowired(required = false)
+    private SeatReservationEngine seatEngine;
+
+    /**
+     * Registers the user, or puts them on the waitlist when the event is full. Returns which
+     * of the two happened.
+     */
+    public RegistrationStatus registerForEvent(Long eventId, Long userId) {
+        if (seatEngine != null) {
+            User user = userRepository.findById(userId)
+                    .orElseThrow(() -> new ResourceNotFoundException("User not found"));
+            if (seatEngine.register(eventId, user)) {
+                return RegistrationStatus.REGISTERED;
+            }
+            Event event = eventRepository.findById(eventId)
+                    .orElseThrow(() -> new ResourceNotFoundException("Event not found"));
+            return joinWaitlist(event, user, registrationRepository.findByEventAndUser(event, user));
+        }
+
         Event event = eventRepository.findById(eventId)
                 .orElseThrow(() -> new ResourceNotFoundException("Event not found"));
 
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new ResourceNotFoundException("User not found"));
 
-        // Check if already registered
-        if (registrationRepository.findByEventAndUser(event, user).isPresent()) {
+        // Check if already registered; a cancelled or waitlisted registration is reactivated instead
+        Optional<EventRegistration> existing = registrationRepository.findByEventAndUser(event, user);
+        if (existing.isPresent() && !REACTIVATABLE.contains(existing.get().getStatus())) {
             throw new BadRequestException("User already registered for this event");
         }
 
-        // Check capacity
-        if (event.getRegisteredCount() >= event.getCapacity()) {
-            throw new BadRequestException("Event is at full capacity");
+        // Check capacity and take the seat in one statement; any failure below rolls it back
+        if (eventRepository.reserveSeat(eventId) == 0) {
+            return joinWaitlist(event, user, existing);
         }
 
-        EventRegistration registration = EventRegistration.builder()
-                .event(event)
-                .user(user)
-                .status(RegistrationStatus.REGISTERED)
-                .build();
+        if (existing.isPresent()) {
+            int reactivated = registrationRepository.updateStatus(existing.get().getId(),
+                    REACTIVATABLE, RegistrationStatus.REGISTERED);
+            if (reactivated == 0) {
+                throw new BadRequestException("User already registered for this event");
+            }
+        } else {
+            try {
+                registrationRepository.saveAndFlush(EventRegistration.builder()
+                        .event(event)
+                        .user(user)
+                        .status(RegistrationStatus.REGISTERED)
+                        .build());
+            } catch (DataIntegrityViolationException e) {
+                // A concurrent request inserted the same (event, user) row first
+                throw new BadRequestException("User already registered for this event");
+            }
+        }
 
-        registrationRepository.save(registration);
-        event.setRegisteredCount(event.getRegisteredCount() + 1);
-        eventRepository.save(event);
+        eventPublisher.publishEvent(new CatalogChangeEvent(eventId, CatalogChangeEvent.ChangeType.REGISTRATIONS));
+        eventPublisher.publishEvent(new RegistrationChangeEvent(userId, eventId, true));
 
         // Send confirmation email
         emailService.sendRegistrationConfirmation(user.getEmail(), user.getFirstName(), event.getTitle());
 
         log.info("User {} registered for event {}", userId, eventId);
+        return RegistrationStatus.REGISTERED;
     }
 
     public void cancelRegistration(Long eventId, Long userId) {
+        if (seatEngine != null && seatEngine.cancelPending(eventId, userId)) {
+            log.info("User {} cancelled pending registration for event {}", userId, eventId);
+            return;
+        }
+
         Event event = eventRepository.findById(eventId)
                 .orElseThrow(() -> new ResourceNotFoundException("Event not found"));
 
@@ -69,52 +182,358 @@ public class RegistrationService {
                 .orElseThrow(() -> new ResourceNotFoundException("User not found"));
 
         EventRegistration registration = registrationRepository.findByEventAndUser(event, user)
+                .filter(r -> r.getStatus() != RegistrationStatus.CANCELLED)
                 .orElseThrow(() -> new BadRequestException("Registration not found"));
 
-        registration.setStatus(RegistrationStatus.CANCELLED);
-        registrationRepository.save(registration);
+        // Leaving the waitlist frees no seat
+        if (registration.getStatus() == RegistrationStatus.WAITLISTED) {
+            if (registrationRepository.updateStatus(registration.getId(),
+                    EnumSet.of(RegistrationStatus.WAITLISTED), RegistrationStatus.CANCELLED) == 0) {
+                throw new BadRequestException("Registration not found");
+            }
+            log.info("User {} left the waitlist of event {}", userId, eventId);
+            return;
+        }
+
+        int cancelled = registrationRepository.updateStatus(registration.getId(),
+                EnumSet.of(RegistrationStatus.REGISTERED, RegistrationStatus.ATTENDED), RegistrationStatus.CANCELLED);
+        if (cancelled == 0) {
+            throw new BadRequestException("Registration not found");
+        }
+        eventRepository.releaseSeat(eventId);
+        waitlistService.fillFreeSeats(eventId);
 
-        event.setRegisteredCount(Math.max(0, event.getRegisteredCount() - 1));
-        eventRepository.save(event);
+        eventPublisher.publishEvent(new CatalogChangeEvent(eventId, CatalogChangeEvent.ChangeType.REGISTRATIONS));
+        eventPublisher.publishEvent(new RegistrationChangeEvent(userId, eventId, false));
 
         log.info("User {} cancelled registration for event {}", userId, eventId);
     }
 
-    public List<EventRegistration> getUserRegistrations(Long userId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new ResourceNotFoundException("User not found"));
-        return registrationRepository.findByUser(user);
-    }
+    /**
+     * Registers a group of users, given by id or email, in a fixed number of statements:
+     * users and existing registrations are looked up with one query each, the seats are
+     * taken with one update on the locked event row, and the new rows go in as a JDBC batch.
+     */
+    public BulkRegistrationResultDTO registerGroup(Long eventId, BulkRegistrationRequest request, Long requesterId) {
+        List<Long> userIds = request.getUserIds() != null ? request.getUserIds() : List.of();
+        List<String> emails = request.getEmails() != null ? request.getEmails() : List.of();
+        if (userIds.isEmpty() && emails.isEmpty()) {
+            throw new BadRequestException("No users to register");
+        }
+        if (userIds.size() + emails.size() > maxGroupSize) {
+            throw new BadRequestException("At most " + maxGroupSize + " users can be registered at once");
+        }
+        boolean allOrNothing = request.getMode() != BulkRegistrationRequest.Mode.BEST_EFFORT;
 
-    public List<EventRegistration> getEventRegistrations(Long eventId) {
         Event event = eventRepository.findById(eventId)
                 .orElseThrow(() -> new ResourceNotFoundException("Event not found"));
-        return registrationRepository.findByEvent(event);
+        User requester = userRepository.findById(requesterId)
+                .orElseThrow(() -> new ResourceNotFoundException("User not found"));
+        if (!event.getCreatedBy().getId().equals(requesterId) && !requester.getRole().equals(UserRole.ADMIN)) {
+            throw new BadRequestException("You don't have permission to register users for this event");
+        }
+
+        List<BulkRegistrationOutcomeDTO> outcomes = new ArrayList<>();
+        Map<Long, User> users = new LinkedHashMap<>();
+        Map<Long, User> byId = userRepository.findAllById(userIds).stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+        for (Long id : userIds) {
+            User user = byId.get(id);
+            if (user == null) {
+                outcomes.add(outcome(id, null, BulkRegistrationOutcomeDTO.Outcome.USER_NOT_FOUND));
+            } else {
+                users.putIfAbsent(id, user);
+            }
+        }
+        // Emails match regardless of case, as they do under MySQL's default collation
+        Set<String> normalized = emails.stream().filter(Objects::nonNull)
+                .map(RegistrationService::normalizeEmail).collect(Collectors.toSet());
+        Map<String, User> byEmail = userRepository.findByEmailIn(normalized).stream()
+                .collect(Collectors.toMap(user -> normalizeEmail(user.getEmail()), Function.identity(), (a, b) -> a));
+        for (String email : emails) {
+            User user = byEmail.get(normalizeEmail(email));
+            if (user == null) {
+                outcomes.add(outcome(null, email, BulkRegistrationOutcomeDTO.Outcome.USER_NOT_FOUND));
+            } else {
+                users.putIfAbsent(user.getId(), user);
+            }
+        }
+
+        List<User> admitted;
+        List<User> rejected;
+        if (seatEngine != null) {
+            GroupAdmission admission = seatEngine.registerGroup(eventId, new ArrayList<>(users.values()), allOrNothing);
+            if (allOrNothing && !admission.getRejected().isEmpty()) {
+                throw new BadRequestException("Not enough seats left for " + admission.getRejected().size() + " users");
+            }
+            admission.getAlreadyRegistered().forEach(user ->
+                    outcomes.add(outcome(user, BulkRegistrationOutcomeDTO.Outcome.ALREADY_REGISTERED)));
+            admitted = admission.getAdmitted();
+            rejected = admission.getRejected();
+        } else {
+            Map<Long, EventRegistration> existing = registrationRepository
+                    .findByEventIdAndUserIdIn(eventId, users.keySet()).stream()
+                    .collect(Collectors.toMap(r -> r.getUser().getId(), Function.identity()));
+            List<User> candidates = new ArrayList<>();
+            for (User user : users.values()) {
+                EventRegistration registration = existing.get(user.getId());
+                if (registration != null && !REACTIVATABLE.contains(registration.getStatus())) {
+                    outcomes.add(outcome(user, BulkRegistrationOutcomeDTO.Outcome.ALREADY_REGISTERED));
+                } else {
+                    candidates.add(user);
+                }
+            }
+
+            Integer free = eventRepository.lockFreeSeats(eventId);
+            int seats = Math.min(Math.max(free != null ? free : 0, 0), candidates.size());
+            if (allOrNothing && seats < candidates.size()) {
+                throw new BadRequestException("Only " + seats + " seats left for " + candidates.size() + " users");
+            }
+            admitted = candidates.subList(0, seats);
+            rejected = candidates.subList(seats, candidates.size());
+            if (!admitted.isEmpty()) {
+                eventRepository.addSeats(eventId, admitted.size());
+                insertRegistrations(eventId, admitted, existing);
+            }
+        }
+
+        admitted.forEach(user -> outcomes.add(outcome(user, BulkRegistrationOutcomeDTO.Outcome.REGISTERED)));
+        rejected.forEach(user -> outcomes.add(outcome(user, BulkRegistrationOutcomeDTO.Outcome.NO_CAPACITY)));
+
+        // The seat engine publishes and confirms its registrations once they are written
+        if (seatEngine == null && !admitted.isEmpty()) {
+            eventPublisher.publishEvent(new CatalogChangeEvent(eventId, CatalogChangeEvent.ChangeType.REGISTRATIONS));
+            Map<String, String> recipients = new LinkedHashMap<>();
+            for (User user : admitted) {
+                eventPublisher.publishEvent(new RegistrationChangeEvent(user.getId(), eventId, true));
+                recipients.put(user.getEmail(), user.getFirstName());
+            }
+            emailService.sendRegistrationConfirmations(recipients, event.getTitle());
+        }
+
+        log.info("User {} registered {} of {} users for event {}",
+                requesterId, admitted.size(), userIds.size() + emails.size(), eventId);
+        return BulkRegistrationResultDTO.builder()
+                .eventId(eventId)
+                .registeredCount(admitted.size())
+                .outcomes(outcomes)
+                .build();
     }
 
-    public void markAsAttended(Long eventId, Long userId) {
-        Event event = eventRepository.findById(eventId)
-                .orElseThrow(() -> new ResourceNotFoundException("Event not found"));
+    private void insertRegistrations(Long eventId, List<User> users, Map<Long, EventRegistration> existing) {
+        List<Long> reactivate = new ArrayList<>();
+        List<User> inserts = new ArrayList<>();
+        for (User user : users) {
+            EventRegistration registration = existing.get(user.getId());
+            if (registration != null) {
+                reactivate.add(registration.getId());
+            } else {
+                inserts.add(user);
+            }
+        }
 
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new ResourceNotFoundException("User not found"));
+        // Any row that moved since it was read fails the whole group, which rolls back the seats too
+        if (!reactivate.isEmpty() && registrationRepository.reactivate(reactivate) != reactivate.size()) {
+            throw new BadRequestException("Registrations changed while registering the group, please retry");
+        }
+        if (!inserts.isEmpty()) {
+            Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+            try {
+                jdbcTemplate.batchUpdate(INSERT_SQL, inserts, inserts.size(), (ps, user) -> {
+                    ps.setLong(1, eventId);
+                    ps.setLong(2, user.getId());
+                    ps.setTimestamp(3, now);
+                });
+            } catch (DuplicateKeyException e) {
+                throw new BadRequestException("Registrations changed while registering the group, please retry");
+            }
+        }
+    }
 
-        EventRegistration registration = registrationRepository.findByEventAndUser(event, user)
-                .orElseThrow(() -> new BadRequestException("Registration not found"));
+    private static BulkRegistrationOutcomeDTO outcome(User user, BulkRegistrationOutcomeDTO.Outcome outcome) {
+        return outcome(user.getId(), user.getEmail(), outcome);
+    }
+
+    private static BulkRegistrationOutcomeDTO outcome(Long userId, String email, BulkRegistrationOutcomeDTO.Outcome outcome) {
+        return BulkRegistrationOutcomeDTO.builder()
+                .userId(userId)
+                .email(email)
+                .outcome(outcome)
+                .build();
+    }
+
+    private RegistrationStatus joinWaitlist(Event event, User user, Optional<EventRegistration> existing) {
+        if (existing.isPresent()) {
+            RegistrationStatus status = existing.get().getStatus();
+            if (status == RegistrationStatus.WAITLISTED) {
+                throw new BadRequestException("User already on the waitlist for this event");
+            }
+            if (status != RegistrationStatus.CANCELLED
+                    || registrationRepository.rejoinWaitlist(existing.get().getId(), LocalDateTime.now()) == 0) {
+                throw new BadRequestException("User already registered for this event");
+            }
+        } else {
+            try {
+                registrationRepository.saveAndFlush(EventRegistration.builder()
+                        .event(event)
+                        .user(user)
+                        .status(RegistrationStatus.WAITLISTED)
+                        .waitlistedAt(LocalDateTime.now())
+                        .build());
+            } catch (DataIntegrityViolationException e) {
+                throw new BadRequestException("User already registered for this event");
+            }
+        }
+
+        log.info("User {} waitlisted for event {}", user.getId(), event.getId());
+        return RegistrationStatus.WAITLISTED;
+    }
+
+    /**
+     * The user's registrations, cancelled ones left out unless asked for by status, one keyset
+     * page at a time.
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<RegistrationDTO> getUserRegistrations(Long userId, RegistrationStatus status,
+                                                            String cursor, Integer size) {
+        long afterId = RegistrationCursor.decode(cursor);
+        int limit = resolvePageSize(size);
+        List<RegistrationDTO> rows = registrationRepository.findUserRegistrationsAfter(
+                userId, status != null ? EnumSet.of(status) : NOT_CANCELLED, afterId, PageRequest.of(0, limit + 1));
+        return toPage(rows, limit, RegistrationDTO::getId);
+    }
+
+    /**
+     * Roster of an event for its organizer or an admin. Without a status it holds the
+     * registered and attended users.
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<AttendeeDTO> getEventRegistrations(Long eventId, Long requesterId, RegistrationStatus status,
+                                                         String cursor, Integer size) {
+        long afterId = RegistrationCursor.decode(cursor);
+        int limit = resolvePageSize(size);
+        checkOrganizer(eventId, requesterId, "You don't have permission to view this event's registrations");
+        List<AttendeeDTO> rows = registrationRepository.findRosterAfter(
+                eventId, status != null ? EnumSet.of(status) : ACTIVE, afterId, PageRequest.of(0, limit + 1));
+        return toPage(rows, limit, AttendeeDTO::getRegistrationId);
+    }
+
+    public void markAsAttended(Long eventId, Long userId, Long requesterId) {
+        CheckInOutcomeDTO.Outcome outcome = checkIn(eventId, List.of(userId), requesterId)
+                .getOutcomes().get(0).getOutcome();
+        if (outcome == CheckInOutcomeDTO.Outcome.ALREADY_CHECKED_IN) {
+            throw new BadRequestException("User already checked in");
+        }
+        if (outcome == CheckInOutcomeDTO.Outcome.NOT_REGISTERED) {
+            throw new BadRequestException("User is not registered for this event");
+        }
+    }
+
+    /**
+     * Checks in a batch of badge scans in one transaction: the registrations are read with one
+     * query, and the status changes and attendance rows go out as JDBC batches. Scanning a
+     * badge again reports ALREADY_CHECKED_IN instead of failing.
+     */
+    public BulkCheckInResultDTO checkIn(Long eventId, List<Long> userIds, Long requesterId) {
+        if (userIds == null || userIds.isEmpty()) {
+            throw new BadRequestException("No users to check in");
+        }
+        if (userIds.size() > maxCheckInSize) {
+            throw new BadRequestException("At most " + maxCheckInSize + " users can be checked in at once");
+        }
+        checkOrganizer(eventId, requesterId, "You don't have permission to check in attendees for this event");
+
+        Set<Long> scanned = new LinkedHashSet<>(userIds);
+        Map<Long, EventRegistration> registrations = registrationRepository.findByEventIdAndUserIdIn(eventId, scanned)
+                .stream()
+                .collect(Collectors.toMap(r -> r.getUser().getId(), Function.identity()));
+        List<EventRegistration> pending = registrations.values().stream()
+                .filter(r -> r.getStatus() == RegistrationStatus.REGISTERED)
+                .collect(Collectors.toList());
+
+        // The status update is a compare-and-set, so of two doors scanning the same badge only
+        // one inserts the attendance row
+        Set<Long> checkedIn = new HashSet<>();
+        if (!pending.isEmpty()) {
+            int[][] counts = jdbcTemplate.batchUpdate(ATTEND_SQL, pending, pending.size(),
+                    (ps, registration) -> ps.setLong(1, registration.getId()));
+            int i = 0;
+            for (int[] batch : counts) {
+                for (int count : batch) {
+                    if (count != 0) {
+                        checkedIn.add(pending.get(i).getUser().getId());
+                    }
+                    i++;
+                }
+            }
+        }
+        if (!checkedIn.isEmpty()) {
+            // Skips the row left by an earlier check-in, e.g. before the user cancelled and registered
+            // again. The compare-and-set above leaves one request per user to get here
+            Set<Long> missing = new HashSet<>(checkedIn);
+            missing.removeAll(attendanceRepository.findUserIdsByEventIdAndUserIdIn(eventId, checkedIn));
+            if (!missing.isEmpty()) {
+                Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+                jdbcTemplate.batchUpdate(ATTENDANCE_SQL, missing, missing.size(), (ps, userId) -> {
+                    ps.setLong(1, eventId);
+                    ps.setLong(2, userId);
+                    ps.setTimestamp(3, now);
+                });
+            }
+        }
 
-        registration.setStatus(RegistrationStatus.ATTENDED);
-        registrationRepository.save(registration);
+        List<CheckInOutcomeDTO> outcomes = new ArrayList<>();
+        for (Long userId : scanned) {
+            EventRegistration registration = registrations.get(userId);
+            CheckInOutcomeDTO.Outcome outcome;
+            if (checkedIn.contains(userId)) {
+                outcome = CheckInOutcomeDTO.Outcome.CHECKED_IN;
+            } else if (registration != null && ACTIVE.contains(registration.getStatus())) {
+                outcome = CheckInOutcomeDTO.Outcome.ALREADY_CHECKED_IN;
+            } else {
+                outcome = CheckInOutcomeDTO.Outcome.NOT_REGISTERED;
+            }
+            outcomes.add(CheckInOutcomeDTO.builder().userId(userId).outcome(outcome).build());
+        }
 
-        // Create attendance record
-        EventAttendance attendance = EventAttendance.builder()
-                .event(event)
-                .user(user)
+        log.info("Checked in {} of {} scans for event {}", checkedIn.size(), userIds.size(), eventId);
+        return BulkCheckInResultDTO.builder()
+                .eventId(eventId)
+                .checkedInCount(checkedIn.size())
+                .outcomes(outcomes)
                 .build();
-        attendanceRepository.save(attendance);
+    }
 
-        log.info("User {} marked as attended for event {}", userId, eventId);
+    private static String normalizeEmail(String email) {
+        return email != null ? email.trim().toLowerCase(Locale.ROOT) : null;
     }
 
-    @Autowired
-    private EventAttendanceRepository attendanceRepository;
+    private void checkOrganizer(Long eventId, Long requesterId, String message) {
+        Event event = eventRepository.findById(eventId)
+                .orElseThrow(() -> new ResourceNotFoundException("Event not found"));
+        User requester = userRepository.findById(requesterId)
+                .orElseThrow(() -> new ResourceNotFoundException("User not found"));
+        if (!event.getCreatedBy().getId().equals(requesterId) && !requester.getRole().equals(UserRole.ADMIN)) {
+            throw new BadRequestException(message);
+        }
+    }
+
+    private int resolvePageSize(Integer size) {
+        if (size == null) {
+            return defaultPageSize;
+        }
+        if (size < 1) {
+            throw new BadRequestException("Page size must be at least 1");
+        }
+        return Math.min(size, maxPageSize);
+    }
+
+    // The queries fetch limit + 1 rows so the extra row tells us whether a next page exists
+    private static <T> CursorPage<T> toPage(List<T> rows, int limit, Function<T, Long> id) {
+        if (rows.size() <= limit) {
+            return new CursorPage<>(rows, null);
+        }
+        List<T> items = rows.subList(0, limit);
+        return new CursorPage<>(items, RegistrationCursor.encode(id.apply(items.get(limit - 1))));
+    }
 }
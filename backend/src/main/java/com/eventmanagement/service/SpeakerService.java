@@ -0,0 +1,46 @@
+package com.eventmanagement.service;
+
+import com.eventmanagement.catalog.SpeakerCache;
+import com.eventmanagement.dto.EventSummaryDTO;
+import com.eventmanagement.dto.SpeakerDTO;
+import com.eventmanagement.exception.ResourceNotFoundException;
+import com.eventmanagement.repository.EventSpeakerRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@Service
+@Transactional(readOnly = true)
+@Slf4j
+public class SpeakerService {
+
+    @Autowired
+    private SpeakerCache speakerCache;
+
+    @Autowired
+    private EventSpeakerRepository eventSpeakerRepository;
+
+    @Autowired
+    private EventService eventService;
+
+    public List<SpeakerDTO> getAllSpeakers() {
+        return speakerCache.getAllSpeakers();
+    }
+
+    public SpeakerDTO getSpeakerById(Long speakerId) {
+        SpeakerDTO speaker = speakerCache.get(speakerId);
+        if (speaker == null) {
+            throw new ResourceNotFoundException("Speaker not found");
+        }
+        return speaker;
+    }
+
+    public List<EventSummaryDTO> getSpeakerEvents(Long speakerId, Long userId) {
+        getSpeakerById(speakerId);
+        List<Long> eventIds = eventSpeakerRepository.findActiveEventIdsBySpeakerId(speakerId);
+        return eventService.getEventSummaries(eventIds, userId);
+    }
+}
@@ -0,0 +1,148 @@
+package com.eventmanagement.service;
+
+import com.eventmanagement.catalog.CatalogChangeEvent;
+import com.eventmanagement.catalog.RegistrationChangeEvent;
+import com.eventmanagement.dto.WaitlistPositionDTO;
+import com.eventmanagement.entity.*;
+import com.eventmanagement.exception.BadRequestException;
+import com.eventmanagement.exception.ResourceNotFoundException;
+import com.eventmanagement.repository.EventRegistrationRepository;
+import com.eventmanagement.repository.EventRepository;
+import com.eventmanagement.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Moves waitlisted users onto freed seats, oldest entry first. Each batch is an index seek on
+ * idx_registrations_waitlist plus one status update and one count update, so promoting stays
+ * cheap however long the waitlist grows.
+ */
+@Service
+@Transactional
+@Slf4j
+public class WaitlistService {
+
+    @Autowired
+    private EventRegistrationRepository registrationRepository;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EmailService emailService;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Value("${registration.waitlist.batch-size:100}")
+    private int batchSize;
+
+    // With the seat engine the free seats live in memory, and the engine hands them over itself
+    @Value("${registration.seat-engine.enabled:false}")
+    private boolean seatEngineEnabled;
+
+    /**
+     * Fills whatever seats are free on the event from its waitlist, inside the caller's
+     * transaction. The event row stays locked until it commits, so registrations arriving
+     * meanwhile cannot take a seat ahead of the waitlist.
+     */
+    public List<Long> fillFreeSeats(Long eventId) {
+        if (seatEngineEnabled) {
+            return List.of();
+        }
+        Integer free = eventRepository.lockFreeSeats(eventId);
+        return free != null && free > 0 ? promoteEntries(eventId, free) : List.of();
+    }
+
+    /**
+     * Promotes up to {@code seats} entries whose seats the caller already holds, and returns
+     * the promoted user ids. Runs in its own transaction, since it is called after the
+     * cancellation that freed the seats has committed.
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public List<Long> promote(Long eventId, int seats) {
+        return promoteEntries(eventId, seats);
+    }
+
+    @Transactional(readOnly = true)
+    public WaitlistPositionDTO getPosition(Long eventId, Long userId) {
+        EventRegistration registration = registrationRepository.findByEventIdAndUserId(eventId, userId)
+                .filter(r -> r.getStatus() == RegistrationStatus.WAITLISTED)
+                .orElseThrow(() -> new BadRequestException("Not on the waitlist for this event"));
+        long ahead = registrationRepository.countWaitlistedAhead(
+                eventId, registration.getWaitlistedAt(), registration.getId());
+        return WaitlistPositionDTO.builder()
+                .eventId(eventId)
+                .position(ahead + 1)
+                .build();
+    }
+
+    private List<Long> promoteEntries(Long eventId, int seats) {
+        List<Long> promoted = new ArrayList<>();
+        while (promoted.size() < seats) {
+            List<EventRegistration> head = registrationRepository.findWaitlistHead(
+                    eventId, PageRequest.of(0, Math.min(batchSize, seats - promoted.size())));
+            if (head.isEmpty()) {
+                break;
+            }
+            registrationRepository.promote(head.stream().map(EventRegistration::getId).toList());
+            eventRepository.addSeats(eventId, head.size());
+            for (EventRegistration registration : head) {
+                promoted.add(registration.getUser().getId());
+            }
+        }
+        if (promoted.isEmpty()) {
+            return promoted;
+        }
+
+        Event event = eventRepository.findById(eventId)
+                .orElseThrow(() -> new ResourceNotFoundException("Event not found"));
+        Map<Long, User> users = userRepository.findAllById(promoted).stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+        Map<String, String> recipients = new LinkedHashMap<>();
+        for (Long userId : promoted) {
+            eventPublisher.publishEvent(new RegistrationChangeEvent(userId, eventId, true));
+            User user = users.get(userId);
+            if (user != null) {
+                recipients.put(user.getEmail(), user.getFirstName());
+            }
+        }
+        eventPublisher.publishEvent(new CatalogChangeEvent(eventId, CatalogChangeEvent.ChangeType.REGISTRATIONS));
+        sendPromotionsAfterCommit(recipients, event.getTitle());
+
+        log.info("Promoted {} users from the waitlist of event {}", promoted.size(), eventId);
+        return promoted;
+    }
+
+    // A promotion that rolls back, e.g. with the cancellation that freed its seat, sends no mail
+    private void sendPromotionsAfterCommit(Map<String, String> recipients, String eventTitle) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            emailService.sendWaitlistPromotions(recipients, eventTitle);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                emailService.sendWaitlistPromotions(recipients, eventTitle);
+            }
+        });
+    }
+}
@@ -7,14 +7,18 @@ import com.eventmanagement.entity.User;
 import com.eventmanagement.entity.UserRole;
 import com.eventmanagement.exception.BadRequestException;
 import com.eventmanagement.repository.UserRepository;
+import com.eventmanagement.config.AuthenticatedUser;
 import com.eventmanagement.config.JwtProvider;
+import com.eventmanagement.config.PasswordHasher;
+import com.eventmanagement.config.TokenRevocationList;
+import com.eventmanagement.config.VerifiedTokenCache;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
-import org.springframework.security.crypto.password.PasswordEncoder;
 
+import java.time.Instant;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -27,7 +31,7 @@ public class AuthServiceTest {
     private UserRepository userRepository;
 
     @Mock
-    private PasswordEncoder passwordEncoder;
+    private PasswordHasher passwordHasher;
 
     @Mock
     private JwtProvider jwtProvider;
@@ -35,6 +39,12 @@ public class AuthServiceTest {
     @Mock
     private EmailService emailService;
 
+    @Mock
+    private TokenRevocationList revocationList;
+
+    @Mock
+    private VerifiedTokenCache tokenCache;
+
     @InjectMocks
     private AuthService authService;
 
@@ -53,7 +63,7 @@ public class AuthServiceTest {
                 .build();
 
         when(userRepository.existsByEmail(request.getEmail())).thenReturn(false);
-        when(passwordEncoder.encode(request.getPassword())).thenReturn("hashedPassword");
+        when(passwordHasher.encode(request.getPassword())).thenReturn("hashedPassword");
         when(userRepository.save(any(User.class))).thenReturn(User.builder()
                 .id(1L)
                 .email(request.getEmail())
@@ -100,7 +110,7 @@ public class AuthServiceTest {
                 .build();
 
         when(userRepository.findByEmail(request.getEmail())).thenReturn(Optional.of(user));
-        when(passwordEncoder.matches(request.getPassword(), user.getPassword())).thenReturn(true);
+        when(passwordHasher.matches(request.getPassword(), user.getPassword())).thenReturn(true);
         when(jwtProvider.generateToken(user.getEmail(), user.getId(), user.getRole().toString()))
                 .thenReturn("jwtToken");
 
@@ -125,8 +135,71 @@ public class AuthServiceTest {
                 .build();
 
         when(userRepository.findByEmail(request.getEmail())).thenReturn(Optional.of(user));
-        when(passwordEncoder.matches(request.getPassword(), user.getPassword())).thenReturn(false);
+        when(passwordHasher.matches(request.getPassword(), user.getPassword())).thenReturn(false);
 
         assertThrows(BadRequestException.class, () -> authService.login(request));
     }
+
+    @Test
+    void testLoginRehashesPasswordWithOutdatedCost() {
+        LoginRequest request = LoginRequest.builder()
+                .email("test@example.com")
+                .password("password123")
+                .build();
+
+        User user = User.builder()
+                .id(1L)
+                .email(request.getEmail())
+                .password("oldHash")
+                .role(UserRole.USER)
+                .isActive(true)
+                .build();
+
+        when(userRepository.findByEmail(request.getEmail())).thenReturn(Optional.of(user));
+        when(passwordHasher.matches(request.getPassword(), "oldHash")).thenReturn(true);
+        when(passwordHasher.needsRehash("oldHash")).thenReturn(true);
+        when(passwordHasher.encode(request.getPassword())).thenReturn("newHash");
+
+        authService.login(request);
+
+        assertEquals("newHash", user.getPassword());
+        verify(userRepository).save(user);
+    }
+
+    @Test
+    void testLogoutRevokesAndUncachesToken() {
+        AuthenticatedUser user = new AuthenticatedUser(1L, "user@example.com", "USER",
+                Instant.now().plusSeconds(60), "jti", Instant.now());
+
+        authService.logout(user);
+
+        verify(revocationList).revokeToken(user);
+        verify(tokenCache).invalidate(user);
+    }
+
+    @Test
+    void testDeactivateRevokesEveryTokenOfUser() {
+        User user = User.builder().id(1L).role(UserRole.USER).isActive(true).build();
+        when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+
+        authService.deactivateUser(1L, 1L);
+
+        assertFalse(user.getIsActive());
+        verify(userRepository).save(user);
+        verify(revocationList).revokeUser(1L);
+        verify(tokenCache).invalidateUser(1L);
+    }
+
+    @Test
+    void testOnlyAdminCanDeactivateOtherUsers() {
+        User user = User.builder().id(1L).role(UserRole.USER).isActive(true).build();
+        User other = User.builder().id(2L).role(UserRole.USER).isActive(true).build();
+        when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+        when(userRepository.findById(2L)).thenReturn(Optional.of(other));
+
+        assertThrows(BadRequestException.class, () -> authService.deactivateUser(2L, 1L));
+
+        assertTrue(other.getIsActive());
+        verifyNoInteractions(revocationList);
+    }
 }
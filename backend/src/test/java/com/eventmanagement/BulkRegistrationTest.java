@@ -0,0 +1,201 @@
+package com.eventmanagement.service;
+
+import com.eventmanagement.dto.BulkRegistrationOutcomeDTO;
+import com.eventmanagement.dto.BulkRegistrationRequest;
+import com.eventmanagement.dto.BulkRegistrationResultDTO;
+import com.eventmanagement.entity.*;
+import com.eventmanagement.exception.BadRequestException;
+import com.eventmanagement.repository.EventRegistrationRepository;
+import com.eventmanagement.repository.EventRepository;
+import com.eventmanagement.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@DataJpaTest
+@Import({RegistrationService.class, WaitlistService.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@TestPropertySource(properties = {
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "registration.bulk.max-size=50"
+})
+public class BulkRegistrationTest {
+
+    @Autowired
+    private RegistrationService registrationService;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EventRegistrationRepository registrationRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @MockBean
+    private EmailService emailService;
+
+    private List<User> users;
+    private User organizer;
+
+    @BeforeEach
+    void setUp() {
+        organizer = userRepository.save(user("organizer", UserRole.USER));
+        List<User> attendees = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            attendees.add(user("employee" + i, UserRole.USER));
+        }
+        users = userRepository.saveAll(attendees);
+    }
+
+    @AfterEach
+    void tearDown() {
+        registrationRepository.deleteAll();
+        eventRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void testRegistersGroupByIdAndEmail() {
+        Long eventId = eventRepository.save(event(100)).getId();
+        List<Long> ids = users.subList(0, 20).stream().map(User::getId).toList();
+        List<String> emails = users.subList(20, 40).stream().map(User::getEmail).collect(Collectors.toList());
+        emails.add("nobody@example.com");
+
+        BulkRegistrationResultDTO result = registrationService.registerGroup(eventId,
+                BulkRegistrationRequest.builder().userIds(ids).emails(emails).build(), organizer.getId());
+
+        assertEquals(40, result.getRegisteredCount());
+        Map<BulkRegistrationOutcomeDTO.Outcome, Long> counts = countOutcomes(result);
+        assertEquals(40L, counts.get(BulkRegistrationOutcomeDTO.Outcome.REGISTERED));
+        assertEquals(1L, counts.get(BulkRegistrationOutcomeDTO.Outcome.USER_NOT_FOUND));
+        assertEquals(40, countRegistered(eventId));
+        assertEquals(40, eventRepository.findById(eventId).orElseThrow().getRegisteredCount());
+        verify(emailService).sendRegistrationConfirmations(anyMap(), eq("Company Offsite"));
+    }
+
+    @Test
+    void testMatchesEmailsRegardlessOfCase() {
+        Long eventId = eventRepository.save(event(100)).getId();
+        List<String> emails = List.of(users.get(0).getEmail().toUpperCase(), " " + users.get(1).getEmail());
+
+        BulkRegistrationResultDTO result = registrationService.registerGroup(eventId,
+                BulkRegistrationRequest.builder().emails(emails).build(), organizer.getId());
+
+        assertEquals(2, result.getRegisteredCount());
+        assertNull(countOutcomes(result).get(BulkRegistrationOutcomeDTO.Outcome.USER_NOT_FOUND));
+    }
+
+    @Test
+    void testReportsExistingAndReactivatesCancelled() {
+        Long eventId = eventRepository.save(event(100)).getId();
+        registrationService.registerForEvent(eventId, users.get(0).getId());
+        registrationService.registerForEvent(eventId, users.get(1).getId());
+        registrationService.cancelRegistration(eventId, users.get(1).getId());
+
+        BulkRegistrationResultDTO result = registrationService.registerGroup(eventId,
+                BulkRegistrationRequest.builder().userIds(ids(0, 5)).build(), organizer.getId());
+
+        assertEquals(4, result.getRegisteredCount());
+        assertEquals(1L, countOutcomes(result).get(BulkRegistrationOutcomeDTO.Outcome.ALREADY_REGISTERED));
+        assertEquals(5, countRegistered(eventId));
+        assertEquals(5, eventRepository.findById(eventId).orElseThrow().getRegisteredCount());
+    }
+
+    @Test
+    void testAllOrNothingRejectsGroupThatDoesNotFit() {
+        Long eventId = eventRepository.save(event(10)).getId();
+
+        assertThrows(BadRequestException.class, () -> registrationService.registerGroup(eventId,
+                BulkRegistrationRequest.builder().userIds(ids(0, 11)).build(), organizer.getId()));
+
+        assertEquals(0, countRegistered(eventId));
+        assertEquals(0, eventRepository.findById(eventId).orElseThrow().getRegisteredCount());
+    }
+
+    @Test
+    void testBestEffortFillsFreeSeatsInOrder() {
+        Long eventId = eventRepository.save(event(10)).getId();
+
+        BulkRegistrationResultDTO result = registrationService.registerGroup(eventId,
+                BulkRegistrationRequest.builder().userIds(ids(0, 15))
+                        .mode(BulkRegistrationRequest.Mode.BEST_EFFORT).build(), organizer.getId());
+
+        assertEquals(10, result.getRegisteredCount());
+        assertEquals(5L, countOutcomes(result).get(BulkRegistrationOutcomeDTO.Outcome.NO_CAPACITY));
+        assertTrue(registrationRepository.findByEventIdAndUserId(eventId, users.get(9).getId()).isPresent());
+        assertTrue(registrationRepository.findByEventIdAndUserId(eventId, users.get(10).getId()).isEmpty());
+        assertEquals(10, eventRepository.findById(eventId).orElseThrow().getRegisteredCount());
+    }
+
+    @Test
+    void testOnlyOrganizerOrAdminCanRegisterGroups() {
+        Long eventId = eventRepository.save(event(10)).getId();
+
+        assertThrows(BadRequestException.class, () -> registrationService.registerGroup(eventId,
+                BulkRegistrationRequest.builder().userIds(ids(1, 3)).build(), users.get(0).getId()));
+    }
+
+    private List<Long> ids(int from, int to) {
+        return users.subList(from, to).stream().map(User::getId).toList();
+    }
+
+    private static Map<BulkRegistrationOutcomeDTO.Outcome, Long> countOutcomes(BulkRegistrationResultDTO result) {
+        return result.getOutcomes().stream()
+                .collect(Collectors.groupingBy(BulkRegistrationOutcomeDTO::getOutcome, Collectors.counting()));
+    }
+
+    private long countRegistered(Long eventId) {
+        return jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM event_registrations WHERE event_id = ? AND status = 'REGISTERED'",
+                Long.class, eventId);
+    }
+
+    private static User user(String name, UserRole role) {
+        return User.builder()
+                .email(name + "@example.com")
+                .password("password")
+                .firstName(name)
+                .lastName("Test")
+                .role(role)
+                .isActive(true)
+                .build();
+    }
+
+    private Event event(int capacity) {
+        return Event.builder()
+                .title("Company Offsite")
+                .description("Description")
+                .eventDate(LocalDateTime.now().plusDays(7))
+                .venue("Main Hall")
+                .category("Business")
+                .capacity(capacity)
+                .registeredCount(0)
+                .createdBy(organizer)
+                .isActive(true)
+                .build();
+    }
+}
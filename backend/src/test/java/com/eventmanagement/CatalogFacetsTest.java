@@ -0,0 +1,131 @@
+package com.eventmanagement.catalog;
+
+import com.eventmanagement.dto.EventFacetsDTO;
+import com.eventmanagement.dto.FacetCountDTO;
+import com.eventmanagement.entity.Event;
+import com.eventmanagement.repository.EventRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class CatalogFacetsTest {
+
+    private CatalogFacets facets;
+
+    @BeforeEach
+    void setUp() {
+        facets = new CatalogFacets();
+
+        List<EventSnapshot> snapshots = Arrays.asList(
+                snapshot(1L, "Tech", "Main Hall", LocalDateTime.now().plusDays(1)),
+                snapshot(2L, "tech", "Main Hall", LocalDateTime.now().minusDays(1)),
+                snapshot(3L, "Business", "Innovation Hub", LocalDateTime.now().plusDays(2)));
+        facets.rebuild(snapshots);
+    }
+
+    @Test
+    void testCountsAreCaseInsensitive() {
+        EventFacetsDTO result = facets.getFacets();
+
+        assertEquals(2, result.getCategories().size());
+        FacetCountDTO tech = result.getCategories().get(0);
+        assertEquals("Tech", tech.getValue());
+        assertEquals(2L, tech.getActiveCount());
+        assertEquals(1L, tech.getUpcomingCount());
+        assertEquals("Main Hall", result.getVenues().get(0).getValue());
+    }
+
+    @Test
+    void testChangesMoveCountsBetweenValues() {
+        facets.onCatalogChange(new CatalogChangeEvent(1L, CatalogChangeEvent.ChangeType.UPDATED,
+                snapshot(1L, "Tech", "Main Hall", LocalDateTime.now().plusDays(1)),
+                snapshot(1L, "Business", "Main Hall", LocalDateTime.now().plusDays(1))));
+        facets.onCatalogChange(new CatalogChangeEvent(3L, CatalogChangeEvent.ChangeType.DELETED,
+                snapshot(3L, "Business", "Innovation Hub", LocalDateTime.now().plusDays(2)), null));
+
+        EventFacetsDTO result = facets.getFacets();
+
+        assertEquals(2, result.getCategories().size());
+        FacetCountDTO business = result.getCategories().stream()
+                .filter(c -> c.getValue().equals("Business")).findFirst().orElseThrow();
+        assertEquals(1L, business.getActiveCount());
+        assertEquals(1L, business.getUpcomingCount());
+        assertEquals(1, result.getVenues().size());
+    }
+
+    @Test
+    void testStartedEventsLeaveUpcomingCounts() {
+        EventSnapshot soon = snapshot(4L, "Workshop", "Lab", LocalDateTime.now().plusNanos(50_000_000));
+        facets.onCatalogChange(new CatalogChangeEvent(4L, CatalogChangeEvent.ChangeType.CREATED, null, soon));
+
+        // Nothing else has to notice the start; the next read drops it from the upcoming count
+        assertDoesNotThrow(() -> Thread.sleep(100));
+
+        FacetCountDTO workshop = facets.getFacets().getCategories().stream()
+                .filter(c -> c.getValue().equals("Workshop")).findFirst().orElseThrow();
+        assertEquals(1L, workshop.getActiveCount());
+        assertEquals(0L, workshop.getUpcomingCount());
+    }
+
+    @Test
+    void testChangesBeforeFirstBuildAreServedEmptyThenApplied() {
+        CatalogFacets fresh = new CatalogFacets();
+        fresh.onCatalogChange(new CatalogChangeEvent(5L, CatalogChangeEvent.ChangeType.CREATED, null,
+                snapshot(5L, "Music", "Arena", LocalDateTime.now().plusDays(3))));
+
+        assertFalse(fresh.isReady());
+        assertTrue(fresh.getFacets().getCategories().isEmpty());
+
+        fresh.rebuild(List.of());
+
+        assertEquals("Music", fresh.getFacets().getCategories().get(0).getValue());
+    }
+
+    @Test
+    void testResyncAppliesWritesFromOtherInstances() {
+        EventRepository repository = mock(EventRepository.class);
+        CatalogFacets synced = new CatalogFacets();
+        ReflectionTestUtils.setField(synced, "eventRepository", repository);
+        when(repository.findAllActiveEvents()).thenReturn(List.of(event(1L, "Tech", true), event(2L, "Tech", true)));
+        synced.build();
+
+        when(repository.findUpdatedSince(any())).thenReturn(List.of(
+                event(1L, "Music", true),
+                event(2L, "Tech", false),
+                event(3L, "Music", true)));
+        synced.resync();
+        // Re-reading an unchanged event must not count it twice
+        synced.resync();
+
+        List<FacetCountDTO> categories = synced.getFacets().getCategories();
+        assertEquals(1, categories.size());
+        assertEquals("Music", categories.get(0).getValue());
+        assertEquals(2L, categories.get(0).getActiveCount());
+        assertEquals(2L, categories.get(0).getUpcomingCount());
+    }
+
+    private static Event event(Long id, String category, boolean active) {
+        return Event.builder()
+                .id(id)
+                .title("Event " + id)
+                .description("Description")
+                .eventDate(LocalDateTime.now().plusDays(1))
+                .venue("Main Hall")
+                .category(category)
+                .isActive(active)
+                .build();
+    }
+
+    private static EventSnapshot snapshot(Long id, String category, String venue, LocalDateTime eventDate) {
+        return new EventSnapshot(id, "Event " + id, "Description", venue, category, eventDate, true);
+    }
+}
@@ -0,0 +1,161 @@
+package com.eventmanagement.catalog;
+
+import com.eventmanagement.entity.Event;
+import com.eventmanagement.entity.User;
+import com.eventmanagement.entity.UserRole;
+import com.eventmanagement.exception.ResourceNotFoundException;
+import com.eventmanagement.repository.EventRepository;
+import com.eventmanagement.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@Import(CatalogVersion.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+// Without the memo, so writes made behind this instance's back show up at once
+@TestPropertySource(properties = {
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "events.catalog.version-ttl=0s"
+})
+public class CatalogVersionTest {
+
+    @Autowired
+    private CatalogVersion catalogVersion;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private User organizer;
+
+    @BeforeEach
+    void setUp() {
+        organizer = userRepository.save(User.builder()
+                .email("organizer@example.com")
+                .password("password")
+                .firstName("Organizer")
+                .lastName("Test")
+                .role(UserRole.USER)
+                .isActive(true)
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        eventRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void testAnonymousAndUserTagsDiffer() {
+        assertNotEquals(catalogVersion.listTag(null), catalogVersion.listTag(1L));
+        assertNotEquals(catalogVersion.listTag(1L), catalogVersion.listTag(2L));
+        assertEquals(catalogVersion.listTag(1L), catalogVersion.listTag(1L));
+        assertTrue(catalogVersion.listTag(null).startsWith("\""));
+    }
+
+    @Test
+    void testTagsFollowPersistedChanges() {
+        Long changed = eventRepository.save(event(LocalDateTime.now().plusDays(1))).getId();
+        Long other = eventRepository.save(event(LocalDateTime.now().plusDays(2))).getId();
+        String listTag = catalogVersion.listTag(null);
+        String changedTag = catalogVersion.eventTag(changed, null);
+        String otherTag = catalogVersion.eventTag(other, null);
+
+        // Written behind this instance's back, as another instance would
+        jdbcTemplate.update("UPDATE events SET updated_at = ? WHERE id = ?", LocalDateTime.now().plusSeconds(1), changed);
+
+        assertNotEquals(listTag, catalogVersion.listTag(null));
+        assertNotEquals(changedTag, catalogVersion.eventTag(changed, null));
+        assertEquals(otherTag, catalogVersion.eventTag(other, null));
+    }
+
+    @Test
+    void testSeatUpdatesChangeTags() {
+        Long eventId = eventRepository.save(event(LocalDateTime.now().plusDays(1))).getId();
+        jdbcTemplate.update("UPDATE events SET updated_at = ? WHERE id = ?", LocalDateTime.now().minusDays(1), eventId);
+        String listTag = catalogVersion.listTag(null);
+        String eventTag = catalogVersion.eventTag(eventId, null);
+
+        transactionTemplate.executeWithoutResult(status -> eventRepository.reserveSeat(eventId));
+
+        assertNotEquals(listTag, catalogVersion.listTag(null));
+        assertNotEquals(eventTag, catalogVersion.eventTag(eventId, null));
+    }
+
+    @Test
+    void testStartedEventChangesListTag() {
+        Long eventId = eventRepository.save(event(LocalDateTime.now().plusDays(1))).getId();
+        String listTag = catalogVersion.listTag(null);
+
+        jdbcTemplate.update("UPDATE events SET event_date = ? WHERE id = ?", LocalDateTime.now().minusMinutes(1), eventId);
+
+        assertNotEquals(listTag, catalogVersion.listTag(null));
+    }
+
+    @Test
+    void testVersionsAreMemoizedUntilTtlOrLocalChange() {
+        Long eventId = eventRepository.save(event(LocalDateTime.now().plusDays(1))).getId();
+        AtomicLong nanos = new AtomicLong();
+        CatalogVersion memoized = new CatalogVersion(Duration.ofSeconds(1), nanos::get);
+        ReflectionTestUtils.setField(memoized, "eventRepository", eventRepository);
+        String listTag = memoized.listTag(null);
+        String eventTag = memoized.eventTag(eventId, null);
+
+        jdbcTemplate.update("UPDATE events SET updated_at = ? WHERE id = ?", LocalDateTime.now().plusSeconds(1), eventId);
+        assertEquals(listTag, memoized.listTag(null));
+        assertEquals(eventTag, memoized.eventTag(eventId, null));
+
+        nanos.addAndGet(Duration.ofSeconds(2).toNanos());
+        assertNotEquals(listTag, memoized.listTag(null));
+        assertNotEquals(eventTag, memoized.eventTag(eventId, null));
+
+        listTag = memoized.listTag(null);
+        jdbcTemplate.update("UPDATE events SET updated_at = ? WHERE id = ?", LocalDateTime.now().plusSeconds(2), eventId);
+        memoized.onCatalogChange(new CatalogChangeEvent(eventId, CatalogChangeEvent.ChangeType.REGISTRATIONS));
+        assertNotEquals(listTag, memoized.listTag(null));
+    }
+
+    @Test
+    void testUnknownEventHasNoTag() {
+        assertThrows(ResourceNotFoundException.class, () -> catalogVersion.eventTag(Long.MAX_VALUE, null));
+    }
+
+    private Event event(LocalDateTime eventDate) {
+        return Event.builder()
+                .title("Conference")
+                .description("Description")
+                .eventDate(eventDate)
+                .venue("Main Hall")
+                .category("Tech")
+                .capacity(10)
+                .registeredCount(0)
+                .createdBy(organizer)
+                .isActive(true)
+                .build();
+    }
+}
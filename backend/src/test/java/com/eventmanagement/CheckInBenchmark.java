@@ -0,0 +1,143 @@
+package com.eventmanagement.service;
+
+import com.eventmanagement.entity.Event;
+import com.eventmanagement.entity.User;
+import com.eventmanagement.entity.UserRole;
+import com.eventmanagement.repository.EventRepository;
+import com.eventmanagement.repository.UserRepository;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceTransactionManagerAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.JdbcTemplateAutoConfiguration;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernateJpaAutoConfiguration;
+import org.springframework.boot.autoconfigure.transaction.TransactionAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Door check-in against an in-memory H2 database: one batch of scans per request versus one
+ * request per scan. Every invocation starts from freshly registered, not yet checked-in users.
+ *
+ * <pre>mvn -Pbenchmark test-compile exec:exec -Djmh.args=CheckInBenchmark</pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CheckInBenchmark {
+
+    private static final int ATTENDEES = 500;
+
+    @Param({"1", "100", "500"})
+    private int scans;
+
+    private ConfigurableApplicationContext context;
+    private RegistrationService registrationService;
+    private JdbcTemplate jdbcTemplate;
+    private Long eventId;
+    private Long organizerId;
+    private List<Long> userIds;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(BenchmarkConfig.class)
+                .web(WebApplicationType.NONE)
+                // Registered as a finished singleton so its own mail dependencies are not injected
+                .initializers(ctx -> ctx.getBeanFactory().registerSingleton("emailService", Mockito.mock(EmailService.class)))
+                .properties("spring.config.name=benchmark",
+                        "spring.datasource.url=jdbc:h2:mem:checkin;DB_CLOSE_DELAY=-1",
+                        "spring.jpa.hibernate.ddl-auto=create",
+                        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+                        "logging.level.root=WARN")
+                .run();
+        registrationService = context.getBean(RegistrationService.class);
+        jdbcTemplate = context.getBean(JdbcTemplate.class);
+        UserRepository userRepository = context.getBean(UserRepository.class);
+
+        organizerId = userRepository.save(user("organizer")).getId();
+        List<User> attendees = new ArrayList<>();
+        for (int i = 0; i < ATTENDEES; i++) {
+            attendees.add(user("attendee" + i));
+        }
+        userIds = userRepository.saveAll(attendees).stream().map(User::getId).toList();
+        eventId = context.getBean(EventRepository.class).save(Event.builder()
+                .title("Conference")
+                .description("Description")
+                .eventDate(LocalDateTime.now().plusDays(7))
+                .venue("Main Hall")
+                .category("Technology")
+                .capacity(ATTENDEES)
+                .registeredCount(ATTENDEES)
+                .createdBy(userRepository.getReferenceById(organizerId))
+                .isActive(true)
+                .build()).getId();
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO event_registrations (event_id, user_id, status, registered_at) VALUES (?, ?, 'REGISTERED', ?)",
+                userIds, userIds.size(), (ps, userId) -> {
+                    ps.setLong(1, eventId);
+                    ps.setLong(2, userId);
+                    ps.setTimestamp(3, now);
+                });
+    }
+
+    @Setup(Level.Invocation)
+    public void reset() {
+        jdbcTemplate.update("DELETE FROM event_attendances");
+        jdbcTemplate.update("UPDATE event_registrations SET status = 'REGISTERED'");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Object bulkCheckIn() {
+        return registrationService.checkIn(eventId, userIds.subList(0, scans), organizerId);
+    }
+
+    @Benchmark
+    public void checkInPerScan() {
+        for (Long userId : userIds.subList(0, scans)) {
+            registrationService.markAsAttended(eventId, userId, organizerId);
+        }
+    }
+
+    private static User user(String name) {
+        return User.builder()
+                .email(name + "@example.com")
+                .password("password")
+                .firstName(name)
+                .lastName("Benchmark")
+                .role(UserRole.USER)
+                .isActive(true)
+                .build();
+    }
+
+    @Configuration
+    @ImportAutoConfiguration({DataSourceAutoConfiguration.class, DataSourceTransactionManagerAutoConfiguration.class,
+            HibernateJpaAutoConfiguration.class, JdbcTemplateAutoConfiguration.class, TransactionAutoConfiguration.class})
+    @EntityScan("com.eventmanagement.entity")
+    @EnableJpaRepositories("com.eventmanagement.repository")
+    @Import({RegistrationService.class, WaitlistService.class})
+    static class BenchmarkConfig {
+    }
+}
@@ -0,0 +1,179 @@
+package com.eventmanagement.service;
+
+import com.eventmanagement.dto.BulkCheckInResultDTO;
+import com.eventmanagement.dto.CheckInOutcomeDTO;
+import com.eventmanagement.entity.*;
+import com.eventmanagement.exception.BadRequestException;
+import com.eventmanagement.repository.EventAttendanceRepository;
+import com.eventmanagement.repository.EventRegistrationRepository;
+import com.eventmanagement.repository.EventRepository;
+import com.eventmanagement.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@Import({RegistrationService.class, WaitlistService.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect")
+public class CheckInTest {
+
+    @Autowired
+    private RegistrationService registrationService;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EventRegistrationRepository registrationRepository;
+
+    @Autowired
+    private EventAttendanceRepository attendanceRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @MockBean
+    private EmailService emailService;
+
+    private User organizer;
+    private List<User> users;
+
+    @BeforeEach
+    void setUp() {
+        organizer = userRepository.save(user("organizer"));
+        List<User> attendees = new ArrayList<>();
+        for (int i = 0; i < 30; i++) {
+            attendees.add(user("attendee" + i));
+        }
+        users = userRepository.saveAll(attendees);
+    }
+
+    @AfterEach
+    void tearDown() {
+        attendanceRepository.deleteAll();
+        registrationRepository.deleteAll();
+        eventRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void testChecksInBatchOfScans() {
+        Long eventId = eventRepository.save(event("Conference")).getId();
+        for (User user : users.subList(0, 20)) {
+            registrationService.registerForEvent(eventId, user.getId());
+        }
+        registrationService.cancelRegistration(eventId, users.get(19).getId());
+
+        List<Long> scans = new ArrayList<>(ids(0, 25));
+        scans.add(users.get(0).getId());
+
+        BulkCheckInResultDTO result = registrationService.checkIn(eventId, scans, organizer.getId());
+
+        assertEquals(19, result.getCheckedInCount());
+        assertEquals(25, result.getOutcomes().size());
+        Map<CheckInOutcomeDTO.Outcome, Long> counts = countOutcomes(result);
+        assertEquals(19L, counts.get(CheckInOutcomeDTO.Outcome.CHECKED_IN));
+        assertEquals(6L, counts.get(CheckInOutcomeDTO.Outcome.NOT_REGISTERED));
+        assertEquals(19, countAttended(eventId));
+        assertEquals(19, attendanceRepository.count());
+    }
+
+    @Test
+    void testRepeatScansAreIdempotent() {
+        Long eventId = eventRepository.save(event("Meetup")).getId();
+        for (User user : users.subList(0, 10)) {
+            registrationService.registerForEvent(eventId, user.getId());
+        }
+        registrationService.checkIn(eventId, ids(0, 5), organizer.getId());
+
+        BulkCheckInResultDTO result = registrationService.checkIn(eventId, ids(0, 10), organizer.getId());
+
+        assertEquals(5, result.getCheckedInCount());
+        assertEquals(5L, countOutcomes(result).get(CheckInOutcomeDTO.Outcome.ALREADY_CHECKED_IN));
+        assertEquals(10, countAttended(eventId));
+        assertEquals(10, attendanceRepository.count());
+    }
+
+    @Test
+    void testCheckInAfterReregistrationKeepsOneAttendanceRow() {
+        Long eventId = eventRepository.save(event("Workshop")).getId();
+        Long userId = users.get(0).getId();
+        registrationService.registerForEvent(eventId, userId);
+        registrationService.checkIn(eventId, List.of(userId), organizer.getId());
+        registrationService.cancelRegistration(eventId, userId);
+        registrationService.registerForEvent(eventId, userId);
+
+        BulkCheckInResultDTO result = registrationService.checkIn(eventId, List.of(userId), organizer.getId());
+
+        assertEquals(1, result.getCheckedInCount());
+        assertEquals(1, attendanceRepository.count());
+    }
+
+    @Test
+    void testCheckInRequiresOrganizer() {
+        Long eventId = eventRepository.save(event("Closed Door")).getId();
+
+        assertThrows(BadRequestException.class,
+                () -> registrationService.checkIn(eventId, ids(0, 1), users.get(0).getId()));
+    }
+
+    private List<Long> ids(int from, int to) {
+        return users.subList(from, to).stream().map(User::getId).collect(Collectors.toList());
+    }
+
+    private static Map<CheckInOutcomeDTO.Outcome, Long> countOutcomes(BulkCheckInResultDTO result) {
+        return result.getOutcomes().stream()
+                .collect(Collectors.groupingBy(CheckInOutcomeDTO::getOutcome, Collectors.counting()));
+    }
+
+    private long countAttended(Long eventId) {
+        return jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM event_registrations WHERE event_id = ? AND status = 'ATTENDED'",
+                Long.class, eventId);
+    }
+
+    private static User user(String name) {
+        return User.builder()
+                .email(name + "@example.com")
+                .password("password")
+                .firstName(name)
+                .lastName("Test")
+                .role(UserRole.USER)
+                .isActive(true)
+                .build();
+    }
+
+    private Event event(String title) {
+        return Event.builder()
+                .title(title)
+                .description("Description")
+                .eventDate(LocalDateTime.now().plusDays(7))
+                .venue("Main Hall")
+                .category("Business")
+                .capacity(100)
+                .registeredCount(0)
+                .createdBy(organizer)
+                .isActive(true)
+                .build();
+    }
+}
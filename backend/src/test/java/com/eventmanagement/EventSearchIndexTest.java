@@ -0,0 +1,123 @@
+package com.eventmanagement.catalog;
+
+import com.eventmanagement.entity.Event;
+import com.eventmanagement.repository.EventRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class EventSearchIndexTest {
+
+    private EventSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new EventSearchIndex();
+        index.rebuild(Arrays.asList(
+                snapshot(1L, "Spring Boot Workshop", "Tech", "Main Hall", "Hands-on microservices session", 3),
+                snapshot(2L, "Startup Pitch Night", "Business", "Innovation Hub", "Founders pitch to investors", 1),
+                snapshot(3L, "Cloud Summit", "Tech", "Convention Center", "Talks on Kubernetes and Spring", 2)));
+    }
+
+    @Test
+    void testMatchesSubstringsAcrossFields() {
+        assertEquals(List.of(2L), ids(index.search("vest")));
+        assertEquals(List.of(3L), ids(index.search("convention")));
+        assertEquals(List.of(1L, 3L), ids(index.search("TECH")).stream().sorted().collect(Collectors.toList()));
+    }
+
+    @Test
+    void testRanksTitleMatchesAboveDescriptionMatches() {
+        assertEquals(List.of(1L, 3L), ids(index.search("spring")));
+    }
+
+    @Test
+    void testMultipleTermsAreCombinedWithAnd() {
+        assertEquals(List.of(3L), ids(index.search("spring kube")));
+        assertTrue(index.search("spring pitch").isEmpty());
+    }
+
+    @Test
+    void testShortTermsUseGramPostings() {
+        assertEquals(List.of(2L), ids(index.search("hub")));
+        assertTrue(index.search("zz").isEmpty());
+    }
+
+    @Test
+    void testChangesUpdateIndexIncrementally() {
+        index.onCatalogChange(new CatalogChangeEvent(4L, CatalogChangeEvent.ChangeType.CREATED,
+                null, snapshot(4L, "Spring Security Deep Dive", "Tech", "Lab 2", "OAuth and JWT", 5)));
+        assertEquals(3, index.search("spring").size());
+
+        index.onCatalogChange(new CatalogChangeEvent(1L, CatalogChangeEvent.ChangeType.UPDATED,
+                null, snapshot(1L, "Java Workshop", "Tech", "Main Hall", "Hands-on session", 3)));
+        assertFalse(ids(index.search("spring")).contains(1L));
+        assertEquals(List.of(1L), ids(index.search("java")));
+
+        index.onCatalogChange(new CatalogChangeEvent(3L, CatalogChangeEvent.ChangeType.DELETED,
+                snapshot(3L, "Cloud Summit", "Tech", "Convention Center", "Talks on Kubernetes and Spring", 2), null));
+        assertTrue(index.search("cloud").isEmpty());
+        assertEquals(3, index.size());
+    }
+
+    @Test
+    void testChangesBeforeBuildAreReplayed() {
+        EventSearchIndex fresh = new EventSearchIndex();
+        fresh.onCatalogChange(new CatalogChangeEvent(9L, CatalogChangeEvent.ChangeType.CREATED,
+                null, snapshot(9L, "Late Event", "Tech", "Room 9", "Created while building", 1)));
+        assertFalse(fresh.isReady());
+
+        fresh.rebuild(List.of(snapshot(1L, "Early Event", "Tech", "Room 1", "Loaded from the database", 1)));
+
+        assertTrue(fresh.isReady());
+        assertEquals(List.of(9L), ids(fresh.search("late")));
+        assertEquals(List.of(1L), ids(fresh.search("early")));
+    }
+
+    @Test
+    void testResyncAppliesWritesFromOtherInstances() {
+        EventRepository repository = mock(EventRepository.class);
+        EventSearchIndex synced = new EventSearchIndex();
+        ReflectionTestUtils.setField(synced, "eventRepository", repository);
+        when(repository.findAllActiveEvents()).thenReturn(List.of(event(1L, "Spring Boot Workshop", true)));
+        synced.build();
+
+        when(repository.findUpdatedSince(any())).thenReturn(List.of(
+                event(1L, "Spring Boot Workshop", false),
+                event(2L, "Kotlin Meetup", true)));
+        synced.resync();
+
+        assertTrue(synced.search("spring").isEmpty());
+        assertEquals(List.of(2L), ids(synced.search("kotlin")));
+    }
+
+    private static EventSnapshot snapshot(Long id, String title, String category, String venue, String description, int daysAhead) {
+        return new EventSnapshot(id, title, description, venue, category, LocalDateTime.now().plusDays(daysAhead), true);
+    }
+
+    private static Event event(Long id, String title, boolean active) {
+        return Event.builder()
+                .id(id)
+                .title(title)
+                .description("Description")
+                .eventDate(LocalDateTime.now().plusDays(1))
+                .venue("Main Hall")
+                .category("Tech")
+                .isActive(active)
+                .build();
+    }
+
+    private static List<Long> ids(List<SearchHit> hits) {
+        return hits.stream().map(SearchHit::getEventId).collect(Collectors.toList());
+    }
+}
@@ -1,7 +1,20 @@
 package com.eventmanagement.service;
 
+import com.eventmanagement.catalog.CatalogChangeEvent;
+import com.eventmanagement.catalog.CatalogFacets;
+import com.eventmanagement.catalog.EventCatalogCache;
+import com.eventmanagement.catalog.EventSearchIndex;
+import com.eventmanagement.catalog.EventSnapshot;
+import com.eventmanagement.catalog.RegisteredEventsCache;
+import com.eventmanagement.catalog.RegistrationChangeEvent;
+import com.eventmanagement.catalog.SpeakerCache;
+import com.eventmanagement.catalog.UpcomingEventIndex;
 import com.eventmanagement.dto.CreateEventRequest;
+import com.eventmanagement.dto.CursorPage;
+import com.eventmanagement.dto.EventCursor;
 import com.eventmanagement.dto.EventDTO;
+import com.eventmanagement.dto.EventSummaryDTO;
+import com.eventmanagement.dto.SpeakerDTO;
 import com.eventmanagement.entity.Event;
 import com.eventmanagement.entity.User;
 import com.eventmanagement.entity.UserRole;
@@ -12,19 +25,30 @@ import com.eventmanagement.repository.UserRepository;
 import com.eventmanagement.repository.EventSpeakerRepository;
 import com.eventmanagement.repository.EventRegistrationRepository;
 import com.eventmanagement.repository.EventAttendanceRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
 
+import java.io.ByteArrayOutputStream;
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 public class EventServiceTest {
@@ -44,15 +68,43 @@ public class EventServiceTest {
     @Mock
     private EventAttendanceRepository attendanceRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private EventSearchIndex searchIndex;
+
+    @Mock
+    private UpcomingEventIndex upcomingIndex;
+
+    @Mock
+    private CatalogFacets catalogFacets;
+
+    @Mock
+    private SpeakerCache speakerCache;
+
+    @Spy
+    private EventCatalogCache catalogCache = new EventCatalogCache(100, 100, Duration.ofMinutes(5));
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    @Mock
+    private EntityManager entityManager;
+
     @InjectMocks
     private EventService eventService;
 
+    private RegisteredEventsCache registeredEventsCache;
+
     private User adminUser;
     private Event testEvent;
 
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
+        registeredEventsCache = new RegisteredEventsCache(registrationRepository, 100, Duration.ofMinutes(5));
+        ReflectionTestUtils.setField(eventService, "registeredEventsCache", registeredEventsCache);
 
         adminUser = User.builder()
                 .id(1L)
@@ -124,14 +176,14 @@ public class EventServiceTest {
     @Test
     void testGetAllEvents() {
         List<Event> events = Collections.singletonList(testEvent);
-        when(eventRepository.findAllActiveEvents()).thenReturn(events);
-        when(eventSpeakerRepository.findByEvent(testEvent)).thenReturn(Collections.emptyList());
+        when(eventRepository.findActiveEventsAfter(any(), any(), any())).thenReturn(events);
 
-        List<EventDTO> result = eventService.getAllEvents(null);
+        CursorPage<EventDTO> result = eventService.getAllEvents(null, null, null);
 
         assertNotNull(result);
-        assertEquals(1, result.size());
-        verify(eventRepository, times(1)).findAllActiveEvents();
+        assertEquals(1, result.getItems().size());
+        assertNull(result.getNextCursor());
+        verify(eventRepository, times(1)).findActiveEventsAfter(any(), any(), any());
     }
 
     @Test
@@ -144,13 +196,202 @@ public class EventServiceTest {
     @Test
     void testSearchEvents() {
         List<Event> events = Collections.singletonList(testEvent);
-        when(eventRepository.searchEvents("Test")).thenReturn(events);
-        when(eventSpeakerRepository.findByEvent(testEvent)).thenReturn(Collections.emptyList());
+        when(eventRepository.searchEventsAfter(eq("Test"), any(), any(), any())).thenReturn(events);
 
-        List<EventDTO> result = eventService.searchEvents("Test", 1L);
+        CursorPage<EventDTO> result = eventService.searchEvents("Test", 1L, null, null);
 
         assertNotNull(result);
-        assertEquals(1, result.size());
-        verify(eventRepository, times(1)).searchEvents("Test");
+        assertEquals(1, result.getItems().size());
+        verify(eventRepository, times(1)).searchEventsAfter(eq("Test"), any(), any(), any());
+    }
+
+    @Test
+    void testGetAllEventsBatchesLookups() {
+        Event second = Event.builder()
+                .id(2L)
+                .title("Second Event")
+                .description("Second Description")
+                .eventDate(LocalDateTime.now().plusDays(2))
+                .venue("Test Venue")
+                .category("Business")
+                .capacity(50)
+                .registeredCount(0)
+                .createdBy(adminUser)
+                .isActive(true)
+                .build();
+
+        when(eventRepository.findActiveEventsAfter(any(), any(), any())).thenReturn(Arrays.asList(testEvent, second));
+        when(registrationRepository.findActiveRegisteredEventIds(1L)).thenReturn(Collections.singletonList(2L));
+
+        List<EventDTO> result = eventService.getAllEvents(1L, null, null).getItems();
+
+        assertEquals(2, result.size());
+        assertFalse(result.get(0).getIsRegistered());
+        assertTrue(result.get(1).getIsRegistered());
+        verify(registrationRepository, times(1)).findActiveRegisteredEventIds(1L);
+        verify(eventSpeakerRepository, times(1)).findSpeakerLinksByEventIdIn(anyCollection());
+        verify(eventSpeakerRepository, never()).findByEvent(any());
+        verify(userRepository, never()).findById(any());
+    }
+
+    @Test
+    void testGetAllEventsReturnsNextCursorWhenMoreRowsExist() {
+        Event second = Event.builder()
+                .id(2L)
+                .title("Second Event")
+                .description("Second Description")
+                .eventDate(LocalDateTime.now().plusDays(2))
+                .venue("Test Venue")
+                .category("Tech")
+                .capacity(50)
+                .registeredCount(0)
+                .createdBy(adminUser)
+                .isActive(true)
+                .build();
+
+        when(eventRepository.findActiveEventsAfter(any(), any(), any())).thenReturn(Arrays.asList(testEvent, second));
+
+        CursorPage<EventDTO> result = eventService.getAllEvents(null, null, 1);
+
+        assertEquals(1, result.getItems().size());
+        EventCursor next = EventCursor.decode(result.getNextCursor());
+        assertEquals(testEvent.getEventDate(), next.getEventDate());
+        assertEquals(testEvent.getId(), next.getId());
+    }
+
+    @Test
+    void testInvalidCursorRejected() {
+        assertThrows(BadRequestException.class, () -> eventService.getAllEvents(null, "not-a-cursor", null));
+    }
+
+    @Test
+    void testListPagesServedFromCatalogCacheUntilInvalidated() {
+        when(eventRepository.findActiveEventsAfter(any(), any(), any())).thenReturn(Collections.singletonList(testEvent));
+
+        eventService.getAllEvents(null, null, null);
+        List<EventDTO> cached = eventService.getAllEvents(2L, null, null).getItems();
+
+        assertEquals(1, cached.size());
+        verify(eventRepository, times(1)).findActiveEventsAfter(any(), any(), any());
+        verify(eventSpeakerRepository, times(1)).findSpeakerLinksByEventIdIn(anyCollection());
+
+        catalogCache.onCatalogChange(new CatalogChangeEvent(testEvent.getId(), CatalogChangeEvent.ChangeType.UPDATED));
+        eventService.getAllEvents(null, null, null);
+
+        verify(eventRepository, times(2)).findActiveEventsAfter(any(), any(), any());
+    }
+
+    @Test
+    void testRegisteredFlagComesFromPerUserCache() {
+        when(eventRepository.findActiveEventsAfter(any(), any(), any())).thenReturn(Collections.singletonList(testEvent));
+        when(registrationRepository.findActiveRegisteredEventIds(1L)).thenReturn(Collections.emptyList());
+
+        assertFalse(eventService.getAllEvents(1L, null, null).getItems().get(0).getIsRegistered());
+
+        registeredEventsCache.onRegistrationChange(new RegistrationChangeEvent(1L, testEvent.getId(), true));
+        assertTrue(eventService.getAllEvents(1L, null, null).getItems().get(0).getIsRegistered());
+
+        registeredEventsCache.onRegistrationChange(new RegistrationChangeEvent(1L, testEvent.getId(), false));
+        assertFalse(eventService.getAllEvents(1L, null, null).getItems().get(0).getIsRegistered());
+
+        verify(registrationRepository, times(1)).findActiveRegisteredEventIds(1L);
+    }
+
+    @Test
+    void testSearchEventsUsesIndexWhenReady() {
+        EventSearchIndex index = new EventSearchIndex();
+        index.rebuild(Collections.singletonList(EventSnapshot.of(testEvent)));
+        ReflectionTestUtils.setField(eventService, "searchIndex", index);
+        when(eventRepository.findAllWithCreatorByIdIn(anyCollection())).thenReturn(Collections.singletonList(testEvent));
+
+        CursorPage<EventDTO> result = eventService.searchEvents("test", null, null, null);
+
+        assertEquals(1, result.getItems().size());
+        assertEquals(testEvent.getId(), result.getItems().get(0).getId());
+        verify(eventRepository, never()).searchEventsAfter(any(), any(), any(), any());
+    }
+
+    @Test
+    void testFallbackSearchCursorStaysOnFallbackOnceIndexIsReady() {
+        EventSearchIndex index = new EventSearchIndex();
+        index.rebuild(Collections.singletonList(EventSnapshot.of(testEvent)));
+        ReflectionTestUtils.setField(eventService, "searchIndex", index);
+        when(eventRepository.searchEventsAfter(eq("test"), any(), any(), any())).thenReturn(Collections.emptyList());
+        String fallbackCursor = new EventCursor(testEvent.getEventDate(), testEvent.getId()).encode();
+
+        CursorPage<EventDTO> result = eventService.searchEvents("test", null, fallbackCursor, null);
+
+        assertTrue(result.getItems().isEmpty());
+        verify(eventRepository).searchEventsAfter(eq("test"), eq(testEvent.getEventDate()), eq(testEvent.getId()), any());
+    }
+
+    @Test
+    void testExportStreamsEventsInChunks() throws Exception {
+        ReflectionTestUtils.setField(eventService, "exportChunkSize", 2);
+        Event second = Event.builder().id(2L).title("Second Event").eventDate(LocalDateTime.now().plusDays(2))
+                .capacity(100).registeredCount(0).createdBy(adminUser).isActive(true).build();
+        Event third = Event.builder().id(3L).title("Third Event").eventDate(LocalDateTime.now().plusDays(3))
+                .capacity(100).registeredCount(0).createdBy(adminUser).isActive(true).build();
+        when(eventRepository.streamActiveEvents()).thenReturn(Arrays.asList(testEvent, second, third).stream());
+        when(eventSpeakerRepository.findSpeakerLinksByEventIdIn(anyCollection())).thenReturn(Collections.emptyList());
+        when(registrationRepository.findActiveRegisteredEventIds(1L)).thenReturn(Collections.singletonList(2L));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        eventService.exportEvents(1L, out);
+
+        JsonNode response = objectMapper.readTree(out.toByteArray());
+        assertTrue(response.get("success").asBoolean());
+        assertEquals(3, response.get("data").size());
+        assertEquals("Second Event", response.get("data").get(1).get("title").asText());
+        assertTrue(response.get("data").get(1).get("isRegistered").asBoolean());
+        verify(eventSpeakerRepository, times(2)).findSpeakerLinksByEventIdIn(anyCollection());
+        verify(entityManager, times(2)).clear();
+    }
+
+    @Test
+    void testSummaryViewSkipsDescriptionAndSpeakers() {
+        EventSummaryDTO summary = new EventSummaryDTO(1L, "Test Event", testEvent.getEventDate(), "Test Venue",
+                "Tech", 100, 10, "Admin User");
+        when(eventRepository.findActiveSummariesAfter(any(), any(), any())).thenReturn(Collections.singletonList(summary));
+        when(registrationRepository.findActiveRegisteredEventIds(1L)).thenReturn(Collections.singletonList(1L));
+
+        CursorPage<EventSummaryDTO> result = eventService.getAllEventSummaries(1L, null, null);
+
+        assertEquals(1, result.getItems().size());
+        assertEquals("Admin User", result.getItems().get(0).getCreatedByName());
+        assertTrue(result.getItems().get(0).getIsRegistered());
+        verify(eventRepository, never()).findActiveEventsAfter(any(), any(), any());
+        verify(eventSpeakerRepository, never()).findSpeakerLinksByEventIdIn(anyCollection());
+    }
+
+    @Test
+    void testSummaryViewReusesCachedPageAndSkeletons() {
+        when(eventRepository.findActiveEventsAfter(any(), any(), any())).thenReturn(Collections.singletonList(testEvent));
+        when(eventSpeakerRepository.findSpeakerLinksByEventIdIn(anyCollection())).thenReturn(Collections.emptyList());
+        eventService.getAllEvents(null, null, null);
+
+        List<EventSummaryDTO> summaries = eventService.getAllEventSummaries(null, null, null).getItems();
+
+        assertEquals(1, summaries.size());
+        assertEquals("Test Event", summaries.get(0).getTitle());
+        verify(eventRepository, never()).findActiveSummariesAfter(any(), any(), any());
+        verify(eventRepository, never()).findSummariesByIdIn(anyCollection());
+    }
+
+    @Test
+    void testSpeakersResolvedFromSpeakerCache() {
+        EventSpeakerRepository.SpeakerLink link = mock(EventSpeakerRepository.SpeakerLink.class);
+        when(link.getEventId()).thenReturn(1L);
+        when(link.getSpeakerId()).thenReturn(7L);
+        SpeakerDTO speaker = SpeakerDTO.builder().id(7L).name("Ada").bio("Bio").build();
+        when(eventRepository.findActiveEventsAfter(any(), any(), any())).thenReturn(Collections.singletonList(testEvent));
+        when(eventSpeakerRepository.findSpeakerLinksByEventIdIn(anyCollection())).thenReturn(Collections.singletonList(link));
+        when(speakerCache.getAll(anyCollection())).thenReturn(Collections.singletonMap(7L, speaker));
+
+        EventDTO result = eventService.getAllEvents(null, null, null).getItems().get(0);
+
+        assertEquals(1, result.getSpeakers().size());
+        assertEquals("Ada", result.getSpeakers().get(0).getName());
+        verify(speakerCache, times(1)).getAll(anyCollection());
     }
 }
@@ -0,0 +1,185 @@
+package com.eventmanagement.idempotency;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.StreamUtils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class IdempotencyFilterTest {
+
+    private IdempotencyFilter filter;
+    private AtomicInteger executions;
+
+    @BeforeEach
+    void setUp() {
+        filter = new IdempotencyFilter();
+        ReflectionTestUtils.setField(filter, "store",
+                new IdempotencyStore(null, false, 1000, Duration.ofHours(1), Duration.ofMinutes(1)));
+        ReflectionTestUtils.setField(filter, "objectMapper", new ObjectMapper());
+        ReflectionTestUtils.setField(filter, "paths", List.of("/events", "/registrations/events/*"));
+        ReflectionTestUtils.setField(filter, "waitTimeout", Duration.ofSeconds(10));
+        executions = new AtomicInteger();
+    }
+
+    @Test
+    void testRetryGetsTheOriginalResponse() throws Exception {
+        FilterChain chain = created("{\"id\":1}");
+
+        MockHttpServletResponse first = post("/api/events", "key-1", "{\"title\":\"A\"}", chain);
+        MockHttpServletResponse retry = post("/api/events", "key-1", "{\"title\":\"A\"}", chain);
+
+        assertEquals(1, executions.get());
+        assertEquals(201, retry.getStatus());
+        assertEquals(first.getContentAsString(), retry.getContentAsString());
+        assertEquals("true", retry.getHeader(IdempotencyFilter.REPLAYED_HEADER));
+        assertNull(first.getHeader(IdempotencyFilter.REPLAYED_HEADER));
+    }
+
+    @Test
+    void testKeyReusedForDifferentBodyIsRejected() throws Exception {
+        FilterChain chain = created("{\"id\":1}");
+
+        post("/api/events", "key-1", "{\"title\":\"A\"}", chain);
+        MockHttpServletResponse other = post("/api/events", "key-1", "{\"title\":\"B\"}", chain);
+
+        assertEquals(1, executions.get());
+        assertEquals(422, other.getStatus());
+    }
+
+    @Test
+    void testServerErrorsAreNotStored() throws Exception {
+        FilterChain failing = (request, response) -> {
+            executions.incrementAndGet();
+            ((HttpServletResponse) response).setStatus(500);
+        };
+
+        post("/api/registrations/events/7", "key-1", "", failing);
+        MockHttpServletResponse retry = post("/api/registrations/events/7", "key-1", "", created("{}"));
+
+        assertEquals(2, executions.get());
+        assertEquals(201, retry.getStatus());
+    }
+
+    @Test
+    void testConcurrentDuplicatesRunOnce() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        FilterChain slow = (request, response) -> {
+            executions.incrementAndGet();
+            // The controller still gets the body after the filter has read it
+            assertEquals("{}", StreamUtils.copyToString(request.getInputStream(), StandardCharsets.UTF_8));
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            ((HttpServletResponse) response).setStatus(201);
+            response.getWriter().write("{\"registered\":true}");
+        };
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<MockHttpServletResponse>> futures = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                futures.add(executor.submit(() -> post("/api/registrations/events/7", "key-1", "{}", slow)));
+            }
+            Thread.sleep(200);
+            release.countDown();
+            for (Future<MockHttpServletResponse> future : futures) {
+                MockHttpServletResponse response = future.get();
+                assertEquals(201, response.getStatus());
+                assertEquals("{\"registered\":true}", response.getContentAsString());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(1, executions.get());
+    }
+
+    @Test
+    void testNonBlockingReaderGetsTheBody() throws Exception {
+        StringBuilder read = new StringBuilder();
+        AtomicInteger completed = new AtomicInteger();
+        FilterChain chain = (request, response) -> {
+            ServletInputStream in = request.getInputStream();
+            in.setReadListener(new ReadListener() {
+                @Override
+                public void onDataAvailable() throws IOException {
+                    while (in.isReady() && !in.isFinished()) {
+                        read.append((char) in.read());
+                    }
+                }
+
+                @Override
+                public void onAllDataRead() {
+                    completed.incrementAndGet();
+                }
+
+                @Override
+                public void onError(Throwable t) {
+                    fail(t);
+                }
+            });
+            ((HttpServletResponse) response).setStatus(201);
+        };
+
+        post("/api/events", "key-1", "{\"title\":\"A\"}", chain);
+
+        assertEquals("{\"title\":\"A\"}", read.toString());
+        assertEquals(1, completed.get());
+    }
+
+    @Test
+    void testRequestsWithoutKeyOrOnOtherPathsPassThrough() throws Exception {
+        FilterChain chain = created("{}");
+
+        post("/api/events", null, "{}", chain);
+        post("/api/events", null, "{}", chain);
+        post("/api/auth/login", "key-1", "{}", chain);
+        post("/api/auth/login", "key-1", "{}", chain);
+
+        assertEquals(4, executions.get());
+    }
+
+    private FilterChain created(String body) {
+        return (request, response) -> {
+            executions.incrementAndGet();
+            ((HttpServletResponse) response).setStatus(201);
+            response.setContentType("application/json");
+            response.getWriter().write(body);
+        };
+    }
+
+    private MockHttpServletResponse post(String uri, String key, String body, FilterChain chain) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", uri);
+        request.setContextPath("/api");
+        if (key != null) {
+            request.addHeader(IdempotencyFilter.HEADER, key);
+        }
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, chain);
+        return response;
+    }
+}
@@ -0,0 +1,68 @@
+package com.eventmanagement.idempotency;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Two stores over one database stand in for two instances sharing the idempotency_keys table.
+ */
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect")
+public class IdempotencyStoreTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void testKeyIsClaimedOnceAcrossInstances() {
+        IdempotencyStore first = store(Duration.ofMinutes(1));
+        IdempotencyStore second = store(Duration.ofMinutes(1));
+
+        assertEquals(IdempotencyStore.State.OWNER, first.claim("k1", "f").getState());
+        assertEquals(IdempotencyStore.State.IN_PROGRESS, second.claim("k1", "f").getState());
+
+        first.complete("k1", new StoredResponse("f", 201, "application/json", "{}".getBytes(StandardCharsets.UTF_8)));
+
+        IdempotencyStore.Claim replay = second.claim("k1", "f");
+        assertEquals(IdempotencyStore.State.REPLAY, replay.getState());
+        assertEquals(201, replay.getResponse().getStatus());
+        assertEquals("{}", new String(replay.getResponse().getBody(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void testAbandonedKeyCanBeClaimedAgain() {
+        IdempotencyStore first = store(Duration.ofMinutes(1));
+        IdempotencyStore second = store(Duration.ofMinutes(1));
+
+        assertEquals(IdempotencyStore.State.OWNER, first.claim("k2", "f").getState());
+        first.abandon("k2");
+
+        assertEquals(IdempotencyStore.State.OWNER, second.claim("k2", "f").getState());
+    }
+
+    @Test
+    void testStaleClaimIsTakenOver() {
+        IdempotencyStore crashed = store(Duration.ZERO);
+        IdempotencyStore survivor = store(Duration.ZERO);
+
+        assertEquals(IdempotencyStore.State.OWNER, crashed.claim("k3", "f").getState());
+        jdbcTemplate.update("UPDATE idempotency_keys SET created_at = DATEADD('MINUTE', -5, created_at) WHERE id = 'k3'");
+
+        assertEquals(IdempotencyStore.State.OWNER, survivor.claim("k3", "f").getState());
+    }
+
+    private IdempotencyStore store(Duration lockTimeout) {
+        return new IdempotencyStore(jdbcTemplate, true, 100, Duration.ofHours(1), lockTimeout);
+    }
+}
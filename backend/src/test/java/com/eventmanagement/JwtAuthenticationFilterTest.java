@@ -0,0 +1,94 @@
+package com.eventmanagement.config;
+
+import com.eventmanagement.repository.RevokedTokenRepository;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+public class JwtAuthenticationFilterTest {
+
+    private JwtProvider jwtProvider;
+    private VerifiedTokenCache tokenCache;
+    private TokenRevocationList revocationList;
+    private JwtAuthenticationFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        jwtProvider = new JwtProvider();
+        ReflectionTestUtils.setField(jwtProvider, "jwtSecret", "test-secret-key-that-is-long-enough-for-hs512-signatures-in-tests-only");
+        ReflectionTestUtils.setField(jwtProvider, "jwtExpirationMs", 60000L);
+        jwtProvider.init();
+        filter = new JwtAuthenticationFilter();
+        tokenCache = new VerifiedTokenCache(jwtProvider, 100);
+        ReflectionTestUtils.setField(filter, "tokenCache", tokenCache);
+        revocationList = new TokenRevocationList(mock(RevokedTokenRepository.class), 1000, 0.01, 60000L);
+        revocationList.load();
+        ReflectionTestUtils.setField(filter, "revocationList", revocationList);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void testPutsTypedPrincipalInSecurityContext() throws Exception {
+        String token = jwtProvider.generateToken("user@example.com", 42L, "ADMIN");
+
+        Authentication authentication = filterWith("Bearer " + token);
+
+        assertNotNull(authentication);
+        AuthenticatedUser user = (AuthenticatedUser) authentication.getPrincipal();
+        assertEquals(42L, user.getUserId());
+        assertEquals("user@example.com", authentication.getName());
+        assertEquals("ROLE_ADMIN", authentication.getAuthorities().iterator().next().getAuthority());
+    }
+
+    @Test
+    void testIgnoresTamperedToken() throws Exception {
+        String token = jwtProvider.generateToken("user@example.com", 42L, "USER");
+        String tampered = token.substring(0, token.length() - 4) + "AAAA";
+
+        assertNull(filterWith("Bearer " + tampered));
+        assertNull(filterWith(null));
+        assertNull(jwtProvider.authenticate("not-a-token"));
+    }
+
+    @Test
+    void testIgnoresRevokedTokenEvenWhenCached() throws Exception {
+        String token = jwtProvider.generateToken("user@example.com", 42L, "USER");
+        String other = jwtProvider.generateToken("user@example.com", 42L, "USER");
+        assertNotNull(filterWith("Bearer " + token));
+
+        revocationList.revokeToken(jwtProvider.authenticate(token));
+
+        assertNull(filterWith("Bearer " + token));
+        assertNotNull(filterWith("Bearer " + other));
+    }
+
+    private Authentication filterWith(String authorization) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/events");
+        if (authorization != null) {
+            request.addHeader("Authorization", authorization);
+        }
+        AtomicReference<Authentication> seen = new AtomicReference<>();
+        FilterChain chain = (req, res) -> {
+            seen.set(SecurityContextHolder.getContext().getAuthentication());
+            assertEquals(seen.get() != null ? seen.get().getPrincipal() : null, AuthenticatedUser.current());
+        };
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+        SecurityContextHolder.clearContext();
+        return seen.get();
+    }
+}
@@ -0,0 +1,103 @@
+package com.eventmanagement.config;
+
+import com.eventmanagement.entity.RevokedToken;
+import com.eventmanagement.repository.RevokedTokenRepository;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.crypto.SecretKey;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Token handling cost of one authenticated request to EventController. {@code perRequestBefore}
+ * replays what used to happen: validate, email, userId and role in the filter, then validate and
+ * userId again in the controller, each building a new key and parser. {@code perRequest} is the
+ * single parse the filter does on a cache miss, and {@code perRequestCached} a repeat request
+ * served by the {@link VerifiedTokenCache}. {@code revocationCheck} is what the filter adds on
+ * top for a token that was not revoked, with 100000 other tokens revoked.
+ *
+ * <pre>mvn -Pbenchmark test-compile exec:exec -Djmh.args=JwtBenchmark</pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtBenchmark {
+
+    private static final String SECRET = "your-super-secret-key-that-is-at-least-256-bits-long-please-change-in-production";
+
+    private JwtProvider jwtProvider;
+    private VerifiedTokenCache tokenCache;
+    private TokenRevocationList revocationList;
+    private String token;
+    private AuthenticatedUser user;
+
+    @Setup
+    public void setUp() {
+        jwtProvider = new JwtProvider();
+        ReflectionTestUtils.setField(jwtProvider, "jwtSecret", SECRET);
+        ReflectionTestUtils.setField(jwtProvider, "jwtExpirationMs", 86400000L);
+        jwtProvider.init();
+        token = jwtProvider.generateToken("user@example.com", 42L, "USER");
+        tokenCache = new VerifiedTokenCache(jwtProvider, 10000);
+        user = jwtProvider.authenticate(token);
+
+        RevokedTokenRepository repository = mock(RevokedTokenRepository.class);
+        List<RevokedToken> revoked = IntStream.range(0, 100000)
+                .mapToObj(i -> RevokedToken.builder()
+                        .tokenId(UUID.randomUUID().toString())
+                        .userId((long) i)
+                        .revokedAt(LocalDateTime.now())
+                        .expiresAt(LocalDateTime.now().plusDays(1))
+                        .build())
+                .toList();
+        when(repository.findByExpiresAtAfter(any())).thenReturn(revoked);
+        revocationList = new TokenRevocationList(repository, 100000, 0.01, 86400000L);
+        revocationList.load();
+    }
+
+    @Benchmark
+    public void perRequestBefore(Blackhole blackhole) {
+        for (int i = 0; i < 6; i++) {
+            blackhole.consume(parseWithNewKey(token));
+        }
+    }
+
+    @Benchmark
+    public AuthenticatedUser perRequest() {
+        return jwtProvider.authenticate(token);
+    }
+
+    @Benchmark
+    public AuthenticatedUser perRequestCached() {
+        return tokenCache.authenticate(token);
+    }
+
+    @Benchmark
+    public boolean revocationCheck() {
+        return revocationList.isRevoked(user);
+    }
+
+    private static Claims parseWithNewKey(String token) {
+        SecretKey key = Keys.hmacShaKeyFor(SECRET.getBytes());
+        return Jwts.parser()
+                .verifyWith(key)
+                .build()
+                .parseSignedClaims(token)
+                .getPayload();
+    }
+}
@@ -0,0 +1,94 @@
+package com.eventmanagement.config;
+
+import com.eventmanagement.exception.ServiceUnavailableException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PasswordHasherTest {
+
+    private PasswordHasher hasher;
+    private ExecutorService callers;
+
+    @AfterEach
+    void tearDown() {
+        if (callers != null) {
+            callers.shutdownNow();
+        }
+        hasher.shutdown();
+    }
+
+    @Test
+    void testEncodesAndMatchesOnPool() {
+        hasher = new PasswordHasher(new BCryptPasswordEncoder(4), 4, 1, 1, Duration.ofSeconds(5), Duration.ofSeconds(2));
+
+        String hash = hasher.encode("secret");
+
+        assertTrue(hasher.matches("secret", hash));
+        assertFalse(hasher.matches("wrong", hash));
+        assertFalse(hasher.needsRehash(hash));
+        assertTrue(hasher.needsRehash(new BCryptPasswordEncoder(5).encode("secret")));
+    }
+
+    @Test
+    void testRejectsWhenSaturated() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        hasher = new PasswordHasher(blockingEncoder(started, release), 10, 1, 1, Duration.ofSeconds(5), Duration.ofSeconds(3));
+        callers = Executors.newFixedThreadPool(2);
+
+        callers.submit(() -> hasher.encode("first"));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        callers.submit(() -> hasher.encode("queued"));
+        Thread.sleep(100);
+
+        long start = System.nanoTime();
+        ServiceUnavailableException e = assertThrows(ServiceUnavailableException.class, () -> hasher.encode("rejected"));
+        assertTrue(System.nanoTime() - start < TimeUnit.MILLISECONDS.toNanos(500));
+        assertEquals(3, e.getRetryAfterSeconds());
+        release.countDown();
+    }
+
+    @Test
+    void testGivesUpAfterMaxWait() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        hasher = new PasswordHasher(blockingEncoder(started, release), 10, 1, 10, Duration.ofMillis(100), Duration.ofSeconds(1));
+        callers = Executors.newSingleThreadExecutor();
+
+        callers.submit(() -> hasher.encode("first"));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        assertThrows(ServiceUnavailableException.class, () -> hasher.matches("second", "hash"));
+        release.countDown();
+    }
+
+    private static PasswordEncoder blockingEncoder(CountDownLatch started, CountDownLatch release) {
+        return new PasswordEncoder() {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                started.countDown();
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return rawPassword.toString();
+            }
+
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                return encode(rawPassword).equals(encodedPassword);
+            }
+        };
+    }
+}
@@ -0,0 +1,85 @@
+package com.eventmanagement.ratelimit;
+
+import com.eventmanagement.config.AuthenticatedUser;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RateLimitFilterTest {
+
+    private RateLimitFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        filter = new RateLimitFilter(new ObjectMapper(), true, "2/1m", "3/1m", "2/1m", "5/1m", 1000, Duration.ofMinutes(10));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void testLoginIsLimitedPerIp() throws Exception {
+        assertEquals(200, send("POST", "/api/auth/login", "10.0.0.1").getStatus());
+        MockHttpServletResponse second = send("POST", "/api/auth/login", "10.0.0.1");
+        assertEquals(200, second.getStatus());
+        assertEquals("0", second.getHeader("RateLimit-Remaining"));
+        assertEquals("2", second.getHeader("RateLimit-Limit"));
+
+        MockHttpServletResponse rejected = send("POST", "/api/auth/login", "10.0.0.1");
+        assertEquals(429, rejected.getStatus());
+        assertEquals("30", rejected.getHeader("Retry-After"));
+        assertTrue(rejected.getContentAsString().contains("Too many requests"));
+
+        assertEquals(200, send("POST", "/api/auth/login", "10.0.0.2").getStatus());
+    }
+
+    @Test
+    void testAuthenticatedUsersHaveTheirOwnBuckets() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            assertEquals(200, send("GET", "/api/events/search", "10.0.0.1").getStatus());
+        }
+        assertEquals(429, send("GET", "/api/events/search", "10.0.0.1").getStatus());
+
+        signIn(7L);
+        assertEquals(200, send("GET", "/api/events/search", "10.0.0.1").getStatus());
+        // Search and plain reads are separate policies
+        assertEquals("5", send("GET", "/api/events", "10.0.0.1").getHeader("RateLimit-Limit"));
+    }
+
+    @Test
+    void testUnlimitedRoutesPassThrough() throws Exception {
+        for (int i = 0; i < 10; i++) {
+            MockHttpServletResponse response = send("PUT", "/api/events/1", "10.0.0.1");
+            assertEquals(200, response.getStatus());
+            assertNull(response.getHeader("RateLimit-Limit"));
+        }
+    }
+
+    private void signIn(Long userId) {
+        AuthenticatedUser user = new AuthenticatedUser(userId, "user@example.com", "USER", Instant.now().plusSeconds(60), null, Instant.now());
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(user, null, List.of()));
+    }
+
+    private MockHttpServletResponse send(String method, String uri, String ip) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, uri);
+        request.setContextPath("/api");
+        request.setRemoteAddr(ip);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain());
+        return response;
+    }
+}
@@ -0,0 +1,144 @@
+package com.eventmanagement.registration;
+
+import com.eventmanagement.exception.TooManyRequestsException;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RegistrationAdmissionTest {
+
+    @Test
+    void testConcurrencyPerEventIsBounded() throws Exception {
+        RegistrationAdmission admission = new RegistrationAdmission(2, 100, 10, Duration.ofSeconds(10), Duration.ofSeconds(1));
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger peak = new AtomicInteger();
+
+        runConcurrently(20, () -> admission.admit(1L, () -> {
+            peak.accumulateAndGet(running.incrementAndGet(), Math::max);
+            sleep(5);
+            running.decrementAndGet();
+        }));
+
+        assertEquals(2, peak.get());
+        assertEquals(0, admission.trackedEvents());
+    }
+
+    @Test
+    void testDerivedLimitsFollowThePoolAndSeatEngine() throws Exception {
+        // A pool of 8 leaves 4 for registrations; only the seat engine lets one event use all of them
+        assertEquals(2, peakFor(new RegistrationAdmission(0, 100, 0, Duration.ofSeconds(10), Duration.ofSeconds(1), 8, false)));
+        assertEquals(4, peakFor(new RegistrationAdmission(0, 100, 0, Duration.ofSeconds(10), Duration.ofSeconds(1), 8, true)));
+    }
+
+    @Test
+    void testFullQueueIsRejectedImmediately() throws Exception {
+        RegistrationAdmission admission = new RegistrationAdmission(1, 1, 10, Duration.ofSeconds(10), Duration.ofSeconds(3));
+        CountDownLatch hold = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            executor.submit(() -> admission.admit(1L, () -> await(hold)));
+            executor.submit(() -> admission.admit(1L, () -> await(hold)));
+            sleep(100);
+
+            long start = System.nanoTime();
+            TooManyRequestsException e = assertThrows(TooManyRequestsException.class,
+                    () -> admission.admit(1L, () -> { }));
+            assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(1));
+            assertEquals(3, e.getRetryAfterSeconds());
+
+            // Another event is not affected by the hot one
+            assertEquals("ok", admission.admit(2L, () -> "ok"));
+        } finally {
+            hold.countDown();
+            executor.shutdown();
+            executor.awaitTermination(5, TimeUnit.SECONDS);
+        }
+        assertEquals(0, admission.trackedEvents());
+    }
+
+    @Test
+    void testWaitingLongerThanTheTimeoutIsRejected() throws Exception {
+        RegistrationAdmission admission = new RegistrationAdmission(1, 10, 10, Duration.ofMillis(50), Duration.ofSeconds(1));
+        CountDownLatch hold = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            executor.submit(() -> admission.admit(1L, () -> await(hold)));
+            sleep(100);
+
+            assertThrows(TooManyRequestsException.class, () -> admission.admit(1L, () -> { }));
+        } finally {
+            hold.countDown();
+            executor.shutdown();
+            executor.awaitTermination(5, TimeUnit.SECONDS);
+        }
+    }
+
+    @Test
+    void testFailedWorkReleasesItsPermit() {
+        RegistrationAdmission admission = new RegistrationAdmission(1, 0, 1, Duration.ofMillis(50), Duration.ofSeconds(1));
+
+        assertThrows(IllegalStateException.class, () -> admission.admit(1L, () -> {
+            throw new IllegalStateException();
+        }));
+
+        assertEquals("ok", admission.admit(1L, () -> "ok"));
+        assertEquals(0, admission.trackedEvents());
+    }
+
+    private static void runConcurrently(int threads, Runnable task) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                futures.add(executor.submit(() -> {
+                    await(start);
+                    task.run();
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static int peakFor(RegistrationAdmission admission) throws Exception {
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger peak = new AtomicInteger();
+        runConcurrently(20, () -> admission.admit(1L, () -> {
+            peak.accumulateAndGet(running.incrementAndGet(), Math::max);
+            sleep(20);
+            running.decrementAndGet();
+        }));
+        return peak.get();
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,238 @@
+package com.eventmanagement.service;
+
+import com.eventmanagement.entity.*;
+import com.eventmanagement.exception.BadRequestException;
+import com.eventmanagement.repository.EventRegistrationRepository;
+import com.eventmanagement.repository.EventRepository;
+import com.eventmanagement.repository.UserRepository;
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Fires thousands of concurrent registrations at one event against a real database and
+ * checks that seats are never oversold and no count update is lost. Registrations beyond
+ * capacity land on the waitlist.
+ */
+@DataJpaTest
+@Import({RegistrationService.class, WaitlistService.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect")
+public class RegistrationConcurrencyTest {
+
+    private static final int USERS = 2000;
+    private static final int THREADS = 32;
+
+    @Autowired
+    private RegistrationService registrationService;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EventRegistrationRepository registrationRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @MockBean
+    private EmailService emailService;
+
+    private List<User> users;
+    private User organizer;
+
+    @BeforeEach
+    void setUp() {
+        // Let contending updates queue on the row lock instead of timing out
+        jdbcTemplate.execute("SET DEFAULT_LOCK_TIMEOUT 30000");
+
+        organizer = userRepository.save(user("organizer"));
+        List<User> attendees = new ArrayList<>(USERS);
+        for (int i = 0; i < USERS; i++) {
+            attendees.add(user("attendee" + i));
+        }
+        users = userRepository.saveAll(attendees);
+    }
+
+    @AfterEach
+    void tearDown() {
+        registrationRepository.deleteAll();
+        eventRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void testConcurrentRegistrationsNeverOversell() throws Exception {
+        int capacity = 150;
+        Long eventId = eventRepository.save(event(capacity)).getId();
+
+        AtomicInteger registered = new AtomicInteger();
+        AtomicInteger waitlisted = new AtomicInteger();
+        runConcurrently(users, user -> {
+            if (registrationService.registerForEvent(eventId, user.getId()) == RegistrationStatus.REGISTERED) {
+                registered.incrementAndGet();
+            } else {
+                waitlisted.incrementAndGet();
+            }
+        });
+
+        assertEquals(capacity, registered.get());
+        assertEquals(USERS - capacity, waitlisted.get());
+        assertEquals(capacity, eventRepository.findById(eventId).orElseThrow().getRegisteredCount());
+        assertEquals(capacity, countRegistered(eventId));
+    }
+
+    @Test
+    void testConcurrentRegistrationsAndCancellationsKeepCountExact() throws Exception {
+        int capacity = 500;
+        Long eventId = eventRepository.save(event(capacity)).getId();
+        List<User> early = users.subList(0, capacity);
+        runConcurrently(early, user -> registrationService.registerForEvent(eventId, user.getId()));
+
+        // Early registrants cancel while the rest compete for the seats they free up
+        AtomicInteger cancelled = new AtomicInteger();
+        runConcurrently(users, user -> {
+            if (user.getId() <= early.get(early.size() - 1).getId()) {
+                registrationService.cancelRegistration(eventId, user.getId());
+                cancelled.incrementAndGet();
+            } else {
+                registrationService.registerForEvent(eventId, user.getId());
+            }
+        });
+
+        assertEquals(capacity, cancelled.get());
+        // Every freed seat went to a late registrant, directly or off the waitlist
+        assertEquals(capacity, countRegistered(eventId));
+        assertEquals(capacity, eventRepository.findById(eventId).orElseThrow().getRegisteredCount());
+        assertEquals(USERS - 2 * capacity, countWaitlisted(eventId));
+    }
+
+    @Test
+    void testDuplicateRegistrationTakesOneSeat() throws Exception {
+        Long eventId = eventRepository.save(event(10)).getId();
+        User user = users.get(0);
+        List<User> sameUser = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            sameUser.add(user);
+        }
+
+        AtomicInteger registered = new AtomicInteger();
+        runConcurrently(sameUser, u -> {
+            try {
+                registrationService.registerForEvent(eventId, u.getId());
+                registered.incrementAndGet();
+            } catch (RuntimeException e) {
+                // Already registered
+            }
+        });
+
+        assertEquals(1, registered.get());
+        assertEquals(1, eventRepository.findById(eventId).orElseThrow().getRegisteredCount());
+    }
+
+    @Test
+    void testSeatUpdateEvictsOnlyItsEvent() {
+        Long eventId = eventRepository.save(event(10)).getId();
+        Long otherId = eventRepository.save(event(10)).getId();
+        eventRepository.findById(eventId);
+        eventRepository.findById(otherId);
+        Cache cache = entityManagerFactory.getCache();
+        assertTrue(cache.contains(Event.class, otherId));
+
+        registrationService.registerForEvent(eventId, users.get(0).getId());
+
+        assertFalse(cache.contains(Event.class, eventId));
+        assertTrue(cache.contains(Event.class, otherId));
+        assertEquals(1, eventRepository.findById(eventId).orElseThrow().getRegisteredCount());
+    }
+
+    private long countRegistered(Long eventId) {
+        return jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM event_registrations WHERE event_id = ? AND status = 'REGISTERED'",
+                Long.class, eventId);
+    }
+
+    private long countWaitlisted(Long eventId) {
+        return jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM event_registrations WHERE event_id = ? AND status = 'WAITLISTED'",
+                Long.class, eventId);
+    }
+
+    private void runConcurrently(List<User> targets, UserAction action) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<Void>> futures = new ArrayList<>();
+            for (User target : targets) {
+                futures.add(executor.submit((Callable<Void>) () -> {
+                    start.await();
+                    action.run(target);
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<Void> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private interface UserAction {
+        void run(User user);
+    }
+
+    private static User user(String name) {
+        return User.builder()
+                .email(name + "@example.com")
+                .password("password")
+                .firstName(name)
+                .lastName("Test")
+                .role(UserRole.USER)
+                .isActive(true)
+                .build();
+    }
+
+    private Event event(int capacity) {
+        return Event.builder()
+                .title("Popular Event")
+                .description("Description")
+                .eventDate(LocalDateTime.now().plusDays(7))
+                .venue("Main Hall")
+                .category("Tech")
+                .capacity(capacity)
+                .registeredCount(0)
+                .createdBy(organizer)
+                .isActive(true)
+                .build();
+    }
+}
@@ -0,0 +1,179 @@
+package com.eventmanagement.service;
+
+import com.eventmanagement.dto.AttendeeDTO;
+import com.eventmanagement.dto.CursorPage;
+import com.eventmanagement.dto.RegistrationDTO;
+import com.eventmanagement.entity.*;
+import com.eventmanagement.exception.BadRequestException;
+import com.eventmanagement.repository.EventAttendanceRepository;
+import com.eventmanagement.repository.EventRegistrationRepository;
+import com.eventmanagement.repository.EventRepository;
+import com.eventmanagement.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@Import({RegistrationService.class, WaitlistService.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect")
+public class RegistrationListingTest {
+
+    @Autowired
+    private RegistrationService registrationService;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EventRegistrationRepository registrationRepository;
+
+    @Autowired
+    private EventAttendanceRepository attendanceRepository;
+
+    @MockBean
+    private EmailService emailService;
+
+    private User organizer;
+    private List<User> users;
+
+    @BeforeEach
+    void setUp() {
+        organizer = userRepository.save(user("organizer"));
+        List<User> attendees = new ArrayList<>();
+        for (int i = 0; i < 25; i++) {
+            attendees.add(user("attendee" + i));
+        }
+        users = userRepository.saveAll(attendees);
+    }
+
+    @AfterEach
+    void tearDown() {
+        attendanceRepository.deleteAll();
+        registrationRepository.deleteAll();
+        eventRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void testRosterPagesThroughActiveRegistrations() {
+        Long eventId = eventRepository.save(event("Roster Event")).getId();
+        for (User user : users) {
+            registrationService.registerForEvent(eventId, user.getId());
+        }
+        registrationService.cancelRegistration(eventId, users.get(3).getId());
+
+        List<AttendeeDTO> roster = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            CursorPage<AttendeeDTO> page = registrationService.getEventRegistrations(eventId, organizer.getId(), null, cursor, 10);
+            roster.addAll(page.getItems());
+            cursor = page.getNextCursor();
+            pages++;
+        } while (cursor != null);
+
+        assertEquals(3, pages);
+        assertEquals(24, roster.size());
+        assertTrue(roster.stream().noneMatch(a -> a.getUserId().equals(users.get(3).getId())));
+        assertEquals("attendee0@example.com", roster.get(0).getEmail());
+
+        List<AttendeeDTO> cancelled = registrationService.getEventRegistrations(eventId, organizer.getId(),
+                RegistrationStatus.CANCELLED, null, null).getItems();
+        assertEquals(1, cancelled.size());
+    }
+
+    @Test
+    void testRosterRequiresOrganizer() {
+        Long eventId = eventRepository.save(event("Private Roster")).getId();
+
+        assertThrows(BadRequestException.class,
+                () -> registrationService.getEventRegistrations(eventId, users.get(0).getId(), null, null, null));
+    }
+
+    @Test
+    void testMyRegistrationsCarryEventFields() {
+        Long first = eventRepository.save(event("First")).getId();
+        Long second = eventRepository.save(event("Second")).getId();
+        Long third = eventRepository.save(event("Third")).getId();
+        Long userId = users.get(0).getId();
+        registrationService.registerForEvent(first, userId);
+        registrationService.registerForEvent(second, userId);
+        registrationService.registerForEvent(third, userId);
+        registrationService.cancelRegistration(second, userId);
+
+        CursorPage<RegistrationDTO> page = registrationService.getUserRegistrations(userId, null, null, 1);
+        assertEquals(1, page.getItems().size());
+        assertEquals("First", page.getItems().get(0).getEventTitle());
+        assertEquals("Main Hall", page.getItems().get(0).getVenue());
+
+        page = registrationService.getUserRegistrations(userId, null, page.getNextCursor(), 1);
+        assertEquals("Third", page.getItems().get(0).getEventTitle());
+        assertEquals(RegistrationStatus.REGISTERED, page.getItems().get(0).getStatus());
+        assertNull(page.getNextCursor());
+    }
+
+    @Test
+    void testMarkAsAttendedOnlyOnce() {
+        Long eventId = eventRepository.save(event("Check-in")).getId();
+        Long userId = users.get(0).getId();
+        registrationService.registerForEvent(eventId, userId);
+
+        registrationService.markAsAttended(eventId, userId, organizer.getId());
+
+        assertEquals(RegistrationStatus.ATTENDED,
+                registrationRepository.findByEventIdAndUserId(eventId, userId).orElseThrow().getStatus());
+        assertEquals(1, attendanceRepository.count());
+        assertThrows(BadRequestException.class,
+                () -> registrationService.markAsAttended(eventId, userId, organizer.getId()));
+        assertThrows(BadRequestException.class,
+                () -> registrationService.markAsAttended(eventId, users.get(1).getId(), organizer.getId()));
+    }
+
+    @Test
+    void testRejectsInvalidCursor() {
+        assertThrows(BadRequestException.class,
+                () -> registrationService.getUserRegistrations(users.get(0).getId(), null, "not-a-cursor", null));
+    }
+
+    private static User user(String name) {
+        return User.builder()
+                .email(name + "@example.com")
+                .password("password")
+                .firstName(name)
+                .lastName("Test")
+                .role(UserRole.USER)
+                .isActive(true)
+                .build();
+    }
+
+    private Event event(String title) {
+        return Event.builder()
+                .title(title)
+                .description("Description")
+                .eventDate(LocalDateTime.now().plusDays(7))
+                .venue("Main Hall")
+                .category("Business")
+                .capacity(100)
+                .registeredCount(0)
+                .createdBy(organizer)
+                .isActive(true)
+                .build();
+    }
+}
@@ -0,0 +1,76 @@
+package com.eventmanagement.registration;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SeatCounterTest {
+
+    @Test
+    void testAcquiresEverySeatAcrossStripes() {
+        SeatCounter counter = new SeatCounter(5, 4);
+
+        for (int i = 0; i < 5; i++) {
+            assertTrue(counter.tryAcquire());
+        }
+        assertFalse(counter.tryAcquire());
+        assertEquals(0, counter.remaining());
+
+        counter.release();
+        assertEquals(1, counter.remaining());
+        assertTrue(counter.tryAcquire());
+    }
+
+    @Test
+    void testConcurrentAcquiresNeverOversell() throws Exception {
+        int seats = 1000;
+        SeatCounter counter = new SeatCounter(seats, 8);
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<Integer>> futures = new ArrayList<>();
+            for (int t = 0; t < 16; t++) {
+                futures.add(executor.submit((Callable<Integer>) () -> {
+                    start.await();
+                    int acquired = 0;
+                    for (int i = 0; i < 200; i++) {
+                        if (counter.tryAcquire()) {
+                            acquired++;
+                        }
+                    }
+                    return acquired;
+                }));
+            }
+            start.countDown();
+            int total = 0;
+            for (Future<Integer> future : futures) {
+                total += future.get();
+            }
+            assertEquals(seats, total);
+            assertEquals(0, counter.remaining());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void testShrinkingOnlyTakesFreeSeats() {
+        SeatCounter counter = new SeatCounter(3, 2);
+        counter.tryAcquire();
+        counter.tryAcquire();
+
+        counter.adjust(-5);
+        assertEquals(0, counter.remaining());
+
+        counter.adjust(4);
+        assertEquals(4, counter.remaining());
+    }
+}
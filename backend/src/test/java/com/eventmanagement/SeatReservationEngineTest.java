@@ -0,0 +1,310 @@
+package com.eventmanagement.registration;
+
+import com.eventmanagement.catalog.CatalogChangeEvent;
+import com.eventmanagement.dto.BulkRegistrationRequest;
+import com.eventmanagement.dto.BulkRegistrationResultDTO;
+import com.eventmanagement.entity.*;
+import com.eventmanagement.exception.BadRequestException;
+import com.eventmanagement.exception.ResourceNotFoundException;
+import com.eventmanagement.exception.ServiceUnavailableException;
+import com.eventmanagement.repository.EventRegistrationRepository;
+import com.eventmanagement.repository.EventRepository;
+import com.eventmanagement.repository.UserRepository;
+import com.eventmanagement.service.EmailService;
+import com.eventmanagement.service.RegistrationService;
+import com.eventmanagement.service.WaitlistService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@Import({RegistrationService.class, WaitlistService.class, SeatReservationEngine.class, RegistrationWriter.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@TestPropertySource(properties = {
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "registration.seat-engine.enabled=true",
+        "registration.seat-engine.batch-size=100"
+})
+public class SeatReservationEngineTest {
+
+    private static final int USERS = 1000;
+
+    @Autowired
+    private RegistrationService registrationService;
+
+    @Autowired
+    private SeatReservationEngine seatEngine;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EventRegistrationRepository registrationRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @MockBean
+    private EmailService emailService;
+
+    private List<User> users;
+    private User organizer;
+
+    @BeforeEach
+    void setUp() {
+        // Let a write behind a held row lock wait instead of timing out
+        jdbcTemplate.execute("SET DEFAULT_LOCK_TIMEOUT 10000");
+
+        organizer = userRepository.save(user("organizer"));
+        List<User> attendees = new ArrayList<>(USERS);
+        for (int i = 0; i < USERS; i++) {
+            attendees.add(user("attendee" + i));
+        }
+        users = userRepository.saveAll(attendees);
+    }
+
+    @AfterEach
+    void tearDown() {
+        seatEngine.flush();
+        registrationRepository.deleteAll();
+        eventRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void testAdmitsExactlyCapacityAndPersistsInBatches() throws Exception {
+        int capacity = 150;
+        Long eventId = eventRepository.save(event(capacity)).getId();
+
+        AtomicInteger admitted = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(32);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<Void>> futures = new ArrayList<>();
+            for (User user : users) {
+                futures.add(executor.submit((Callable<Void>) () -> {
+                    start.await();
+                    if (registrationService.registerForEvent(eventId, user.getId()) == RegistrationStatus.REGISTERED) {
+                        admitted.incrementAndGet();
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<Void> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(capacity, admitted.get());
+        assertEquals(0, seatEngine.remainingSeats(eventId));
+        assertEquals(capacity, countRegistered(eventId));
+        assertEquals(capacity, eventRepository.findById(eventId).orElseThrow().getRegisteredCount());
+    }
+
+    @Test
+    void testFreedSeatGoesToTheWaitlist() {
+        Long eventId = eventRepository.save(event(1)).getId();
+        Long first = users.get(0).getId();
+        Long second = users.get(1).getId();
+
+        assertEquals(RegistrationStatus.REGISTERED, registrationService.registerForEvent(eventId, first));
+        assertEquals(RegistrationStatus.WAITLISTED, registrationService.registerForEvent(eventId, second));
+        registrationService.cancelRegistration(eventId, first);
+
+        assertEquals(0, seatEngine.remainingSeats(eventId));
+        assertEquals(RegistrationStatus.REGISTERED,
+                registrationRepository.findByEventIdAndUserId(eventId, second).orElseThrow().getStatus());
+        assertEquals(1, eventRepository.findById(eventId).orElseThrow().getRegisteredCount());
+        // The promoted user holds the seat in memory too
+        assertThrows(BadRequestException.class, () -> registrationService.registerForEvent(eventId, second));
+    }
+
+    @Test
+    void testGroupIsAdmittedInMemory() {
+        Long eventId = eventRepository.save(event(10)).getId();
+        registrationService.registerForEvent(eventId, users.get(0).getId());
+        List<Long> ids = users.subList(0, 12).stream().map(User::getId).toList();
+
+        assertThrows(BadRequestException.class, () -> registrationService.registerGroup(eventId,
+                BulkRegistrationRequest.builder().userIds(ids).build(), organizer.getId()));
+        assertEquals(9, seatEngine.remainingSeats(eventId));
+
+        BulkRegistrationResultDTO result = registrationService.registerGroup(eventId,
+                BulkRegistrationRequest.builder().userIds(ids).mode(BulkRegistrationRequest.Mode.BEST_EFFORT).build(),
+                organizer.getId());
+
+        assertEquals(9, result.getRegisteredCount());
+        assertEquals(10, countRegistered(eventId));
+        assertEquals(10, eventRepository.findById(eventId).orElseThrow().getRegisteredCount());
+    }
+
+    @Test
+    void testDuplicateIsRejectedBeforeFlush() {
+        Long eventId = eventRepository.save(event(10)).getId();
+        Long userId = users.get(0).getId();
+
+        registrationService.registerForEvent(eventId, userId);
+
+        assertThrows(BadRequestException.class, () -> registrationService.registerForEvent(eventId, userId));
+        assertEquals(1, countRegistered(eventId));
+    }
+
+    @Test
+    void testRegistrationIsCommittedBeforeItIsAcknowledged() {
+        Long eventId = eventRepository.save(event(10)).getId();
+
+        assertEquals(RegistrationStatus.REGISTERED, registrationService.registerForEvent(eventId, users.get(0).getId()));
+
+        assertEquals(1, countRegistered(eventId));
+        assertEquals(1, eventRepository.findById(eventId).orElseThrow().getRegisteredCount());
+    }
+
+    @Test
+    void testFailedWriteIsNotAcknowledged() {
+        Long eventId = eventRepository.save(event(1)).getId();
+        // No users row, so the insert fails on its foreign key
+        User missing = user("missing");
+        missing.setId(Long.MAX_VALUE);
+
+        assertThrows(ServiceUnavailableException.class, () -> seatEngine.register(eventId, missing));
+
+        assertEquals(1, seatEngine.remainingSeats(eventId));
+        assertEquals(0, countRegistered(eventId));
+        assertEquals(RegistrationStatus.REGISTERED, registrationService.registerForEvent(eventId, users.get(0).getId()));
+    }
+
+    @Test
+    void testDeletedEventTakesNoRegistrations() {
+        Long eventId = eventRepository.save(event(10)).getId();
+        registrationService.registerForEvent(eventId, users.get(0).getId());
+
+        jdbcTemplate.update("UPDATE events SET is_active = FALSE WHERE id = ?", eventId);
+        seatEngine.onCatalogChange(new CatalogChangeEvent(eventId, CatalogChangeEvent.ChangeType.DELETED));
+
+        assertThrows(ResourceNotFoundException.class,
+                () -> registrationService.registerForEvent(eventId, users.get(1).getId()));
+        assertEquals(1, countRegistered(eventId));
+    }
+
+    @Test
+    void testCancellingStoredRegistrationFreesTheSeat() {
+        Long eventId = eventRepository.save(event(1)).getId();
+        Long first = users.get(0).getId();
+        Long second = users.get(1).getId();
+
+        registrationService.registerForEvent(eventId, first);
+        registrationService.cancelRegistration(eventId, first);
+
+        registrationService.registerForEvent(eventId, second);
+        // The cancelled row is reactivated rather than inserted again
+        registrationService.cancelRegistration(eventId, second);
+        registrationService.registerForEvent(eventId, first);
+
+        assertEquals(1, countRegistered(eventId));
+        assertEquals(1, eventRepository.findById(eventId).orElseThrow().getRegisteredCount());
+    }
+
+    @Test
+    void testWritesForOneEventDoNotWaitForAnother() throws Exception {
+        Long busy = eventRepository.save(event(10)).getId();
+        Long other = eventRepository.save(event(10)).getId();
+        CountDownLatch locked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            // Holds the busy event's row, so its batch write waits on the lock
+            executor.submit(() -> transactionTemplate.executeWithoutResult(status -> {
+                jdbcTemplate.update("UPDATE events SET venue = venue WHERE id = ?", busy);
+                locked.countDown();
+                assertDoesNotThrow(() -> release.await());
+            }));
+            locked.await();
+            Future<RegistrationStatus> waiting = executor.submit(
+                    () -> registrationService.registerForEvent(busy, users.get(0).getId()));
+            Thread.sleep(200);
+
+            assertEquals(RegistrationStatus.REGISTERED, registrationService.registerForEvent(other, users.get(1).getId()));
+            assertFalse(waiting.isDone());
+
+            release.countDown();
+            assertEquals(RegistrationStatus.REGISTERED, waiting.get());
+        } finally {
+            release.countDown();
+            executor.shutdown();
+        }
+        assertEquals(1, countRegistered(busy));
+        assertEquals(1, countRegistered(other));
+    }
+
+    @Test
+    void testReconcileRecountsFromRegistrations() {
+        Long eventId = eventRepository.save(event(10)).getId();
+        registrationService.registerForEvent(eventId, users.get(0).getId());
+        jdbcTemplate.update("UPDATE events SET registered_count = 7 WHERE id = ?", eventId);
+
+        seatEngine.reconcile();
+
+        assertEquals(1, eventRepository.findById(eventId).orElseThrow().getRegisteredCount());
+    }
+
+    private long countRegistered(Long eventId) {
+        return jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM event_registrations WHERE event_id = ? AND status = 'REGISTERED'",
+                Long.class, eventId);
+    }
+
+    private static User user(String name) {
+        return User.builder()
+                .email(name + "@example.com")
+                .password("password")
+                .firstName(name)
+                .lastName("Test")
+                .role(UserRole.USER)
+                .isActive(true)
+                .build();
+    }
+
+    private Event event(int capacity) {
+        return Event.builder()
+                .title("Flash Sale")
+                .description("Description")
+                .eventDate(LocalDateTime.now().plusDays(7))
+                .venue("Main Hall")
+                .category("Tech")
+                .capacity(capacity)
+                .registeredCount(0)
+                .createdBy(organizer)
+                .isActive(true)
+                .build();
+    }
+}
@@ -0,0 +1,53 @@
+package com.eventmanagement.catalog;
+
+import com.eventmanagement.dto.SpeakerDTO;
+import com.eventmanagement.entity.Speaker;
+import com.eventmanagement.repository.SpeakerRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.Mockito.*;
+
+public class SpeakerCacheTest {
+
+    private SpeakerRepository speakerRepository;
+    private SpeakerCache speakerCache;
+
+    @BeforeEach
+    void setUp() {
+        speakerRepository = mock(SpeakerRepository.class);
+        speakerCache = new SpeakerCache(speakerRepository, 100, Duration.ofHours(1));
+        when(speakerRepository.findAllById(anyIterable())).thenReturn(Arrays.asList(
+                Speaker.builder().id(1L).name("Ada").bio("Bio").build(),
+                Speaker.builder().id(2L).name("Grace").bio("Bio").build()));
+    }
+
+    @Test
+    void testMissesLoadedInOneQueryAndThenCached() {
+        Map<Long, SpeakerDTO> first = speakerCache.getAll(Arrays.asList(1L, 2L, 3L));
+        Map<Long, SpeakerDTO> second = speakerCache.getAll(Arrays.asList(1L, 2L));
+
+        assertEquals(2, first.size());
+        assertEquals("Grace", second.get(2L).getName());
+        verify(speakerRepository, times(1)).findAllById(anyIterable());
+    }
+
+    @Test
+    void testAllSpeakersFollowNameOrder() {
+        when(speakerRepository.findAllIdsOrderByName()).thenReturn(Arrays.asList(2L, 1L));
+
+        List<SpeakerDTO> speakers = speakerCache.getAllSpeakers();
+        speakerCache.getAllSpeakers();
+
+        assertEquals("Grace", speakers.get(0).getName());
+        assertEquals("Ada", speakers.get(1).getName());
+        verify(speakerRepository, times(1)).findAllIdsOrderByName();
+    }
+}
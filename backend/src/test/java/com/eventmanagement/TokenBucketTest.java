@@ -0,0 +1,70 @@
+package com.eventmanagement.ratelimit;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TokenBucketTest {
+
+    private static final long MINUTE = TimeUnit.MINUTES.toNanos(1);
+
+    @Test
+    void testAllowsBurstThenRefillsAtRate() {
+        TokenBucket bucket = new TokenBucket(10, MINUTE, 0);
+
+        for (int i = 0; i < 10; i++) {
+            assertEquals(0, bucket.tryConsume(0));
+        }
+        assertEquals(0, bucket.remaining(0));
+        long wait = bucket.tryConsume(0);
+        assertEquals(TimeUnit.SECONDS.toNanos(6), wait);
+
+        assertEquals(0, bucket.tryConsume(wait));
+        assertTrue(bucket.tryConsume(wait) > 0);
+        assertEquals(10, bucket.remaining(MINUTE * 2));
+        assertEquals(0, bucket.resetNanos(MINUTE * 2));
+    }
+
+    @Test
+    void testConcurrentConsumersNeverExceedCapacity() throws Exception {
+        TokenBucket bucket = new TokenBucket(100, MINUTE, 0);
+        AtomicInteger granted = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 1000; i++) {
+                        if (bucket.tryConsume(0) == 0) {
+                            granted.incrementAndGet();
+                        }
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(100, granted.get());
+    }
+
+    @Test
+    void testParsesPolicy() {
+        RateLimitPolicy policy = RateLimitPolicy.parse("search", "60/1m", false);
+
+        assertEquals(60, policy.getLimit());
+        assertEquals("60;w=60", policy.describe());
+        assertThrows(IllegalArgumentException.class, () -> RateLimitPolicy.parse("bad", "60", false));
+        assertThrows(IllegalArgumentException.class, () -> RateLimitPolicy.parse("bad", "0/1m", false));
+    }
+}
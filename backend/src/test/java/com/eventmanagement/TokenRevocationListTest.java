@@ -0,0 +1,147 @@
+package com.eventmanagement.config;
+
+import com.eventmanagement.entity.RevokedToken;
+import com.eventmanagement.repository.RevokedTokenRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Two lists over one database stand in for two instances sharing the revoked_tokens table.
+ */
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect")
+public class TokenRevocationListTest {
+
+    @Autowired
+    private RevokedTokenRepository revokedTokenRepository;
+
+    @AfterEach
+    void tearDown() {
+        revokedTokenRepository.deleteAll();
+    }
+
+    @Test
+    void testRevokesSingleToken() {
+        TokenRevocationList list = list();
+        AuthenticatedUser revoked = token(1L, Instant.now());
+        AuthenticatedUser other = token(1L, Instant.now());
+
+        list.revokeToken(revoked);
+
+        assertTrue(list.isRevoked(revoked));
+        assertFalse(list.isRevoked(other));
+        assertFalse(list.isRevoked(token(2L, Instant.now())));
+    }
+
+    @Test
+    void testRevokesTokensOfUserIssuedBeforeCutoff() {
+        TokenRevocationList list = list();
+        AuthenticatedUser before = token(1L, Instant.now().minusSeconds(60));
+        AuthenticatedUser legacy = new AuthenticatedUser(1L, "user@example.com", "USER",
+                Instant.now().plusSeconds(60), null, Instant.now().minusSeconds(60));
+
+        list.revokeUser(1L);
+
+        assertTrue(list.isRevoked(before));
+        assertTrue(list.isRevoked(legacy));
+        assertFalse(list.isRevoked(token(1L, Instant.now().plusSeconds(5))));
+        assertFalse(list.isRevoked(token(2L, Instant.now().minusSeconds(60))));
+    }
+
+    @Test
+    void testUserCutoffIsTruncatedToTheSecond() {
+        LocalDateTime revokedAt = LocalDateTime.now().withNano(500_000_000);
+        revokedTokenRepository.save(RevokedToken.builder()
+                .userId(1L)
+                .revokedAt(revokedAt)
+                .expiresAt(revokedAt.plusHours(1))
+                .build());
+        TokenRevocationList list = list();
+        Instant second = revokedAt.withNano(0).atZone(ZoneId.systemDefault()).toInstant();
+
+        assertTrue(list.isRevoked(token(1L, second.minusSeconds(1))));
+        // iat has no sub-second part, so a token from the same second may predate the revocation
+        assertTrue(list.isRevoked(token(1L, second)));
+        assertTrue(list.isRevoked(token(1L, second.plusMillis(900))));
+        assertFalse(list.isRevoked(token(1L, second.plusSeconds(1))));
+    }
+
+    @Test
+    void testOtherInstancesPickUpRevocations() {
+        TokenRevocationList first = list();
+        TokenRevocationList second = list();
+        AuthenticatedUser user = token(1L, Instant.now());
+
+        first.revokeToken(user);
+        first.revokeUser(2L);
+        assertFalse(second.isRevoked(user));
+
+        second.refresh();
+
+        assertTrue(second.isRevoked(user));
+        assertTrue(second.isRevoked(token(2L, Instant.now().minusSeconds(60))));
+        assertTrue(list().isRevoked(user));
+    }
+
+    @Test
+    void testPurgeDropsExpiredRevocations() {
+        TokenRevocationList list = list();
+        AuthenticatedUser expired = token(1L, Instant.now());
+        revokedTokenRepository.save(RevokedToken.builder()
+                .tokenId(expired.getTokenId())
+                .userId(1L)
+                .revokedAt(LocalDateTime.now().minusHours(2))
+                .expiresAt(LocalDateTime.now().minusHours(1))
+                .build());
+        AuthenticatedUser live = token(1L, Instant.now());
+        list.revokeToken(live);
+
+        list.purgeExpired();
+
+        assertEquals(1, revokedTokenRepository.count());
+        assertEquals(1, list.size());
+        assertTrue(list.isRevoked(live));
+        assertFalse(list.isRevoked(expired));
+    }
+
+    @Test
+    void testBloomFilterHasNoFalseNegatives() {
+        BloomFilter bloom = new BloomFilter(1000, 0.01);
+        for (int i = 0; i < 1000; i++) {
+            bloom.add("jti:" + i);
+        }
+
+        int falsePositives = 0;
+        for (int i = 0; i < 1000; i++) {
+            assertTrue(bloom.mightContain("jti:" + i));
+            if (bloom.mightContain("other:" + i)) {
+                falsePositives++;
+            }
+        }
+        assertTrue(falsePositives < 50, "false positives: " + falsePositives);
+    }
+
+    private TokenRevocationList list() {
+        TokenRevocationList list = new TokenRevocationList(revokedTokenRepository, 1000, 0.01, 60000L);
+        list.load();
+        return list;
+    }
+
+    private static AuthenticatedUser token(Long userId, Instant issuedAt) {
+        return new AuthenticatedUser(userId, "user@example.com", "USER",
+                issuedAt.plusSeconds(60), UUID.randomUUID().toString(), issuedAt);
+    }
+}
@@ -0,0 +1,105 @@
+package com.eventmanagement.catalog;
+
+import com.eventmanagement.entity.Event;
+import com.eventmanagement.repository.EventRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class UpcomingEventIndexTest {
+
+    private final LocalDateTime base = LocalDateTime.now().plusDays(1).withNano(0);
+    private UpcomingEventIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new UpcomingEventIndex();
+        index.rebuild(Arrays.asList(
+                snapshot(3L, base.plusHours(2)),
+                snapshot(1L, base),
+                snapshot(2L, base),
+                snapshot(4L, base.plusDays(3))));
+    }
+
+    @Test
+    void testPagesInDateThenIdOrder() {
+        LocalDateTime start = LocalDateTime.of(1000, 1, 1, 0, 0);
+        assertEquals(List.of(1L, 2L), ids(index.nextAfter(start, 0L, null, 2)));
+        assertEquals(List.of(3L, 4L), ids(index.nextAfter(base, 2L, null, 2)));
+        assertEquals(List.of(1L, 2L, 3L), ids(index.nextAfter(start, 0L, base.plusDays(1), 10)));
+    }
+
+    @Test
+    void testBetweenReturnsInclusiveRange() {
+        assertEquals(List.of(1L, 2L, 3L), ids(index.between(base, base.plusHours(2))));
+        assertTrue(index.between(base.plusDays(5), base.plusDays(6)).isEmpty());
+    }
+
+    @Test
+    void testChangesReorderAndRemoveEvents() {
+        index.onCatalogChange(new CatalogChangeEvent(1L, CatalogChangeEvent.ChangeType.UPDATED,
+                snapshot(1L, base), snapshot(1L, base.plusDays(5))));
+        index.onCatalogChange(new CatalogChangeEvent(3L, CatalogChangeEvent.ChangeType.DELETED,
+                snapshot(3L, base.plusHours(2)), null));
+
+        assertEquals(List.of(2L, 4L, 1L), ids(index.nextAfter(LocalDateTime.now(), 0L, null, 10)));
+    }
+
+    @Test
+    void testStartedEventsArePurged() {
+        index.onCatalogChange(new CatalogChangeEvent(5L, CatalogChangeEvent.ChangeType.CREATED,
+                null, snapshot(5L, LocalDateTime.now().plusNanos(50_000_000))));
+
+        assertDoesNotThrow(() -> Thread.sleep(100));
+        index.purgeExpired();
+
+        assertEquals(4, index.size());
+    }
+
+    @Test
+    void testResyncAppliesWritesFromOtherInstances() {
+        EventRepository repository = mock(EventRepository.class);
+        UpcomingEventIndex synced = new UpcomingEventIndex();
+        ReflectionTestUtils.setField(synced, "eventRepository", repository);
+        when(repository.findUpcomingEvents(any())).thenReturn(List.of(event(1L, base, true), event(2L, base, true)));
+        synced.build();
+
+        when(repository.findUpdatedSince(any())).thenReturn(List.of(
+                event(1L, base, false),
+                event(2L, base.plusDays(2), true),
+                event(3L, base.plusDays(1), true)));
+        synced.resync();
+
+        assertEquals(List.of(3L, 2L), ids(synced.nextAfter(LocalDateTime.now(), 0L, null, 10)));
+    }
+
+    private static Event event(Long id, LocalDateTime eventDate, boolean active) {
+        return Event.builder()
+                .id(id)
+                .title("Event " + id)
+                .description("Description")
+                .eventDate(eventDate)
+                .venue("Venue")
+                .category("Tech")
+                .isActive(active)
+                .build();
+    }
+
+    private static EventSnapshot snapshot(Long id, LocalDateTime eventDate) {
+        return new EventSnapshot(id, "Event " + id, "Description", "Venue", "Tech", eventDate, true);
+    }
+
+    private static List<Long> ids(List<EventSnapshot> snapshots) {
+        return snapshots.stream().map(EventSnapshot::getId).collect(Collectors.toList());
+    }
+}
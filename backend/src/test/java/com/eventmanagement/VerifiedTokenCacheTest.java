@@ -0,0 +1,126 @@
+package com.eventmanagement.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+public class VerifiedTokenCacheTest {
+
+    private JwtProvider jwtProvider;
+    private VerifiedTokenCache tokenCache;
+    private TestClock clock;
+
+    @BeforeEach
+    void setUp() {
+        jwtProvider = spy(new JwtProvider());
+        ReflectionTestUtils.setField(jwtProvider, "jwtSecret", "test-secret-key-that-is-long-enough-for-hs512-signatures-in-tests-only");
+        ReflectionTestUtils.setField(jwtProvider, "jwtExpirationMs", 60000L);
+        clock = new TestClock(Instant.parse("2026-01-01T00:00:00Z"));
+        jwtProvider.setClock(clock);
+        jwtProvider.init();
+        tokenCache = new VerifiedTokenCache(jwtProvider, 100, clock::nanos);
+    }
+
+    @Test
+    void testRepeatTokenSkipsVerification() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        tokenCache.bindTo(registry);
+        String token = jwtProvider.generateToken("user@example.com", 1L, "USER");
+
+        AuthenticatedUser first = tokenCache.authenticate(token);
+        AuthenticatedUser second = tokenCache.authenticate(token);
+
+        assertSame(first, second);
+        verify(jwtProvider, times(1)).authenticate(token);
+        assertEquals(1.0, registry.get("cache.gets").tag("cache", "verified-tokens").tag("result", "hit").functionCounter().count());
+    }
+
+    @Test
+    void testEntryExpiresWithToken() {
+        String token = jwtProvider.generateToken("user@example.com", 1L, "USER");
+        assertNotNull(tokenCache.authenticate(token));
+
+        clock.advance(Duration.ofSeconds(59));
+        assertNotNull(tokenCache.authenticate(token));
+        verify(jwtProvider, times(1)).authenticate(token);
+
+        clock.advance(Duration.ofSeconds(2));
+        assertNull(tokenCache.authenticate(token));
+        verify(jwtProvider, times(2)).authenticate(token);
+    }
+
+    @Test
+    void testInvalidationDropsCachedTokens() {
+        String first = jwtProvider.generateToken("user@example.com", 1L, "USER");
+        String second = jwtProvider.generateToken("user@example.com", 1L, "ADMIN");
+        String other = jwtProvider.generateToken("other@example.com", 2L, "USER");
+        tokenCache.authenticate(first);
+        tokenCache.authenticate(second);
+        tokenCache.authenticate(other);
+
+        tokenCache.invalidateUser(1L);
+        tokenCache.authenticate(first);
+        tokenCache.authenticate(second);
+        tokenCache.authenticate(other);
+
+        verify(jwtProvider, times(2)).authenticate(first);
+        verify(jwtProvider, times(2)).authenticate(second);
+        verify(jwtProvider, times(1)).authenticate(other);
+
+        tokenCache.invalidate(tokenCache.authenticate(other));
+        tokenCache.authenticate(other);
+        verify(jwtProvider, times(2)).authenticate(other);
+    }
+
+    @Test
+    void testInvalidTokensAreNotCached() {
+        assertNull(tokenCache.authenticate("not-a-token"));
+        assertNull(tokenCache.authenticate("not-a-token"));
+
+        verify(jwtProvider, times(2)).authenticate("not-a-token");
+    }
+
+    // Wall clock for the JwtProvider and ticker for the cache, moved together by the test
+    private static class TestClock extends Clock {
+        private final Instant start;
+        private volatile Instant now;
+
+        TestClock(Instant start) {
+            this.start = start;
+            this.now = start;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        long nanos() {
+            return Duration.between(start, now).toNanos();
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+    }
+}
@@ -0,0 +1,198 @@
+package com.eventmanagement.service;
+
+import com.eventmanagement.entity.*;
+import com.eventmanagement.exception.BadRequestException;
+import com.eventmanagement.repository.EventRegistrationRepository;
+import com.eventmanagement.repository.EventRepository;
+import com.eventmanagement.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@DataJpaTest
+@Import({RegistrationService.class, WaitlistService.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@TestPropertySource(properties = {
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "registration.waitlist.batch-size=2"
+})
+public class WaitlistServiceTest {
+
+    @Autowired
+    private RegistrationService registrationService;
+
+    @Autowired
+    private WaitlistService waitlistService;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EventRegistrationRepository registrationRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @MockBean
+    private EmailService emailService;
+
+    private List<User> users;
+    private User organizer;
+
+    @BeforeEach
+    void setUp() {
+        organizer = userRepository.save(user("organizer"));
+        List<User> attendees = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            attendees.add(user("attendee" + i));
+        }
+        users = userRepository.saveAll(attendees);
+    }
+
+    @AfterEach
+    void tearDown() {
+        registrationRepository.deleteAll();
+        eventRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void testFullEventWaitlistsInArrivalOrder() {
+        Long eventId = eventRepository.save(event(1)).getId();
+
+        assertEquals(RegistrationStatus.REGISTERED, registrationService.registerForEvent(eventId, id(0)));
+        assertEquals(RegistrationStatus.WAITLISTED, registrationService.registerForEvent(eventId, id(1)));
+        assertEquals(RegistrationStatus.WAITLISTED, registrationService.registerForEvent(eventId, id(2)));
+
+        assertEquals(1L, waitlistService.getPosition(eventId, id(1)).getPosition());
+        assertEquals(2L, waitlistService.getPosition(eventId, id(2)).getPosition());
+        assertThrows(BadRequestException.class, () -> waitlistService.getPosition(eventId, id(0)));
+        assertThrows(BadRequestException.class, () -> registrationService.registerForEvent(eventId, id(1)));
+    }
+
+    @Test
+    void testCancellationPromotesTheHeadOfTheWaitlist() {
+        Long eventId = eventRepository.save(event(1)).getId();
+        registrationService.registerForEvent(eventId, id(0));
+        registrationService.registerForEvent(eventId, id(1));
+        registrationService.registerForEvent(eventId, id(2));
+
+        registrationService.cancelRegistration(eventId, id(0));
+
+        assertEquals(RegistrationStatus.REGISTERED, status(eventId, id(1)));
+        assertEquals(1L, waitlistService.getPosition(eventId, id(2)).getPosition());
+        assertEquals(1, eventRepository.findById(eventId).orElseThrow().getRegisteredCount());
+        verify(emailService).sendWaitlistPromotions(eq(Map.of(users.get(1).getEmail(), users.get(1).getFirstName())), eq("Popular Event"));
+    }
+
+    @Test
+    void testLeavingTheWaitlistFreesNoSeat() {
+        Long eventId = eventRepository.save(event(1)).getId();
+        registrationService.registerForEvent(eventId, id(0));
+        registrationService.registerForEvent(eventId, id(1));
+        registrationService.registerForEvent(eventId, id(2));
+
+        registrationService.cancelRegistration(eventId, id(1));
+
+        assertEquals(RegistrationStatus.REGISTERED, status(eventId, id(0)));
+        assertEquals(RegistrationStatus.CANCELLED, status(eventId, id(1)));
+        assertEquals(1L, waitlistService.getPosition(eventId, id(2)).getPosition());
+        assertEquals(1, eventRepository.findById(eventId).orElseThrow().getRegisteredCount());
+
+        // Rejoining goes to the back of the line
+        registrationService.registerForEvent(eventId, id(1));
+        assertEquals(2L, waitlistService.getPosition(eventId, id(1)).getPosition());
+    }
+
+    @Test
+    void testCapacityIncreasePromotesInBatches() {
+        Long eventId = eventRepository.save(event(1)).getId();
+        for (int i = 0; i < 8; i++) {
+            registrationService.registerForEvent(eventId, id(i));
+        }
+        jdbcTemplate.update("UPDATE events SET capacity = 6 WHERE id = ?", eventId);
+
+        List<Long> promoted = transactionTemplate.execute(status -> waitlistService.fillFreeSeats(eventId));
+
+        assertEquals(List.of(id(1), id(2), id(3), id(4), id(5)), promoted);
+        assertEquals(6, eventRepository.findById(eventId).orElseThrow().getRegisteredCount());
+        assertEquals(1L, waitlistService.getPosition(eventId, id(6)).getPosition());
+        verify(emailService, times(1)).sendWaitlistPromotions(argThat(recipients -> recipients.size() == 5), eq("Popular Event"));
+    }
+
+    @Test
+    void testRolledBackPromotionSendsNoMail() {
+        Long eventId = eventRepository.save(event(1)).getId();
+        registrationService.registerForEvent(eventId, id(0));
+        registrationService.registerForEvent(eventId, id(1));
+        jdbcTemplate.update("UPDATE events SET capacity = 2 WHERE id = ?", eventId);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            assertEquals(List.of(id(1)), waitlistService.fillFreeSeats(eventId));
+            status.setRollbackOnly();
+        });
+
+        assertEquals(RegistrationStatus.WAITLISTED, status(eventId, id(1)));
+        verify(emailService, never()).sendWaitlistPromotions(anyMap(), anyString());
+    }
+
+    private RegistrationStatus status(Long eventId, Long userId) {
+        return registrationRepository.findByEventIdAndUserId(eventId, userId).orElseThrow().getStatus();
+    }
+
+    private Long id(int index) {
+        return users.get(index).getId();
+    }
+
+    private static User user(String name) {
+        return User.builder()
+                .email(name + "@example.com")
+                .password("password")
+                .firstName(name)
+                .lastName("Test")
+                .role(UserRole.USER)
+                .isActive(true)
+                .build();
+    }
+
+    private Event event(int capacity) {
+        return Event.builder()
+                .title("Popular Event")
+                .description("Description")
+                .eventDate(LocalDateTime.now().plusDays(7))
+                .venue("Main Hall")
+                .category("Tech")
+                .capacity(capacity)
+                .registeredCount(0)
+                .createdBy(organizer)
+                .isActive(true)
+                .build();
+    }
+}
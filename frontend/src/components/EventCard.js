@@ -42,11 +42,13 @@ const EventCard = ({ event, onEventUpdated }) => {
           </p>
         </div>
 
-        <p className="event-description">
-          {event.description.length > 100
-            ? event.description.substring(0, 100) + '...'
-            : event.description}
-        </p>
+        {event.description && (
+          <p className="event-description">
+            {event.description.length > 100
+              ? event.description.substring(0, 100) + '...'
+              : event.description}
+          </p>
+        )}
       </div>
 
       <div className="event-card-footer">
@@ -1,6 +1,6 @@
 import React, { useEffect, useState, useContext } from 'react';
 import { useNavigate, useLocation } from 'react-router-dom';
-import { eventService } from '../services/api';
+import { authService, eventService } from '../services/api';
 import { AuthContext } from '../context/AuthContext';
 import EventCard from '../components/EventCard';
 import '../styles/Dashboard.css';
@@ -11,6 +11,8 @@ export const Dashboard = () => {
   const [error, setError] = useState('');
   const [searchTerm, setSearchTerm] = useState('');
   const [filterCategory, setFilterCategory] = useState('');
+  const [nextCursor, setNextCursor] = useState(null);
+  const [loadNextPage, setLoadNextPage] = useState(null);
   const navigate = useNavigate();
   const location = useLocation();
   const { user, logout } = useContext(AuthContext);
@@ -32,7 +34,7 @@ export const Dashboard = () => {
     try {
       setLoading(true);
       const response = await eventService.getAllEvents();
-      setEvents(response.data.data || []);
+      showPage(response, (cursor) => eventService.getAllEvents(cursor));
     } catch (err) {
       setError('Failed to load events');
     } finally {
@@ -40,6 +42,27 @@ export const Dashboard = () => {
     }
   };
 
+  // Replaces the list with a first page and remembers how to fetch the following ones
+  const showPage = (response, fetchPage) => {
+    setEvents(response.data.data || []);
+    setNextCursor(response.data.nextCursor || null);
+    setLoadNextPage(() => fetchPage);
+  };
+
+  const handleLoadMore = async () => {
+    if (!nextCursor || !loadNextPage) {
+      return;
+    }
+
+    try {
+      const response = await loadNextPage(nextCursor);
+      setEvents((current) => [...current, ...(response.data.data || [])]);
+      setNextCursor(response.data.nextCursor || null);
+    } catch (err) {
+      setError('Failed to load more events');
+    }
+  };
+
   const handleSearch = async (e) => {
     e.preventDefault();
     if (!searchTerm.trim()) {
@@ -49,7 +72,7 @@ export const Dashboard = () => {
 
     try {
       const response = await eventService.searchEvents(searchTerm);
-      setEvents(response.data.data || []);
+      showPage(response, (cursor) => eventService.searchEvents(searchTerm, cursor));
     } catch (err) {
       setError('Search failed');
     }
@@ -64,13 +87,18 @@ export const Dashboard = () => {
 
     try {
       const response = await eventService.getEventsByCategory(category);
-      setEvents(response.data.data || []);
+      showPage(response, (cursor) => eventService.getEventsByCategory(category, cursor));
     } catch (err) {
       setError('Filter failed');
     }
   };
 
-  const handleLogout = () => {
+  const handleLogout = async () => {
+    try {
+      await authService.logout();
+    } catch (err) {
+      // The token could not be revoked server side; still sign out locally
+    }
     logout();
     navigate('/login');
   };
@@ -152,11 +180,16 @@ export const Dashboard = () => {
         {loading ? (
           <div className="loading">Loading events...</div>
         ) : events.length > 0 ? (
-          <div className="events-grid">
-            {events.map(event => (
-              <EventCard key={event.id} event={event} onEventUpdated={fetchEvents} />
-            ))}
-          </div>
+          <>
+            <div className="events-grid">
+              {events.map(event => (
+                <EventCard key={event.id} event={event} onEventUpdated={fetchEvents} />
+              ))}
+            </div>
+            {nextCursor && (
+              <button onClick={handleLoadMore} className="btn-load-more">Load more</button>
+            )}
+          </>
         ) : (
           <div className="no-events">No events found</div>
         )}
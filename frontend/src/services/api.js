@@ -31,27 +31,40 @@ api.interceptors.response.use(
   }
 );
 
+// Callers that retry a POST pass the same key again, so the server replays the first response
+const idempotent = (key = crypto.randomUUID()) => ({ headers: { 'Idempotency-Key': key } });
+
 export const authService = {
   signup: (data) => api.post('/auth/signup', data),
   login: (data) => api.post('/auth/login', data),
+  logout: () => api.post('/auth/logout'),
 };
 
 export const eventService = {
-  getAllEvents: () => api.get('/events'),
-  getUpcomingEvents: () => api.get('/events/upcoming'),
+  getAllEvents: (cursor) => api.get('/events', { params: { cursor, view: 'summary' } }),
+  getUpcomingEvents: (cursor) => api.get('/events/upcoming', { params: { cursor, view: 'summary' } }),
   getEventById: (id) => api.get(`/events/${id}`),
-  searchEvents: (query) => api.get(`/events/search?q=${query}`),
-  getEventsByCategory: (category) => api.get(`/events/category/${category}`),
-  createEvent: (data) => api.post('/events', data),
+  searchEvents: (query, cursor) => api.get('/events/search', { params: { q: query, cursor, view: 'summary' } }),
+  getEventsByCategory: (category, cursor) => api.get(`/events/category/${category}`, { params: { cursor, view: 'summary' } }),
+  createEvent: (data, idempotencyKey) => api.post('/events', data, idempotent(idempotencyKey)),
   updateEvent: (id, data) => api.put(`/events/${id}`, data),
   deleteEvent: (id) => api.delete(`/events/${id}`),
 };
 
+export const speakerService = {
+  getAllSpeakers: () => api.get('/speakers'),
+  getSpeakerById: (id) => api.get(`/speakers/${id}`),
+  getSpeakerEvents: (id) => api.get(`/speakers/${id}/events`),
+};
+
 export const registrationService = {
-  registerForEvent: (eventId) => api.post(`/registrations/events/${eventId}`),
+  registerForEvent: (eventId, idempotencyKey) => api.post(`/registrations/events/${eventId}`, null, idempotent(idempotencyKey)),
   cancelRegistration: (eventId) => api.delete(`/registrations/events/${eventId}`),
-  getUserRegistrations: () => api.get('/registrations/my-registrations'),
-  getEventRegistrations: (eventId) => api.get(`/registrations/events/${eventId}`),
+  getWaitlistPosition: (eventId) => api.get(`/registrations/events/${eventId}/waitlist-position`),
+  registerGroup: (eventId, request, idempotencyKey) => api.post(`/registrations/events/${eventId}/bulk`, request, idempotent(idempotencyKey)),
+  getUserRegistrations: (cursor) => api.get('/registrations/my-registrations', { params: { cursor } }),
+  getEventRegistrations: (eventId, cursor) => api.get(`/registrations/events/${eventId}`, { params: { cursor } }),
+  checkIn: (eventId, userIds) => api.post(`/registrations/events/${eventId}/check-ins`, { userIds }),
   markAsAttended: (eventId, userId) => api.post(`/registrations/attend/${eventId}/${userId}`),
 };
 